@@ -0,0 +1,308 @@
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+/**
+ * Java Minesweeper - BoardAnalyzer
+ *
+ * A class that measures the difficulty of board layouts. The main metric is the 3BV of a board, the minimum number
+ * of clicks needed to clear it: one click for every opening (a connected region of ZERO tiles) plus one click for
+ * every number tile that does not border an opening.
+ *
+ * Openings are labelled with union-find over one reused int array, so a layout is analyzed in O(cells) without
+ * creating any per-cell objects. An analyzer is not thread safe; use one per thread.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class BoardAnalyzer {
+
+    private int[] parent; // The union-find parent of every ZERO cell.
+
+    /**
+     * Creates an analyzer. Its scratch space grows to the largest board analyzed.
+     */
+    public BoardAnalyzer() {
+        this.parent = new int[0];
+    }
+
+    /**
+     * Analyzes a layout.
+     *
+     * @param layout - The layout to analyze
+     * @return the metrics of the layout
+     */
+    public Metrics analyze(BoardLayout layout) {
+        Metrics metrics = new Metrics();
+        analyze(layout, metrics);
+        return metrics;
+    }
+
+    /**
+     * Analyzes a layout into an existing metrics object, so that many layouts can be analyzed without allocating.
+     *
+     * @param layout - The layout to analyze
+     * @param metrics - The metrics to overwrite with the results
+     */
+    public void analyze(BoardLayout layout, Metrics metrics) {
+        Topology topology = layout.getTopology();
+        int cells = topology.getCells();
+        if (parent.length < cells) parent = new int[cells];
+
+        int zeros = 0;
+        int openings = 0;
+        int isolatedNumbers = 0;
+
+        for (int cell = 0; cell < cells; cell++) {
+            byte value = layout.get(cell);
+            if (value == BoardLayout.BOMB) continue;
+
+            if (value == 0) {
+                // Every ZERO starts as its own opening, and each merge with an earlier neighbor removes one.
+                parent[cell] = cell;
+                zeros++;
+                openings++;
+                for (int i = topology.firstNeighbor(cell), end = topology.endNeighbor(cell); i < end; i++) {
+                    int neighbor = topology.neighbor(cell, i);
+                    if (neighbor < cell && layout.get(neighbor) == 0 && union(cell, neighbor)) openings--;
+                }
+            } else {
+                // A number tile next to a ZERO is revealed by that opening.
+                boolean isolated = true;
+                for (int i = topology.firstNeighbor(cell), end = topology.endNeighbor(cell); i < end && isolated; i++) {
+                    if (layout.get(topology.neighbor(cell, i)) == 0) isolated = false;
+                }
+                if (isolated) isolatedNumbers++;
+            }
+        }
+
+        metrics.cells = cells;
+        metrics.bombs = layout.getNumBombs();
+        metrics.zeros = zeros;
+        metrics.openings = openings;
+        metrics.isolatedNumbers = isolatedNumbers;
+    }
+
+    /**
+     * Finds the root of a cell's opening, halving the path on the way.
+     *
+     * @param cell - A ZERO cell
+     * @return the root of the opening
+     */
+    private int find(int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]];
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    /**
+     * Merges the openings of two ZERO cells.
+     *
+     * @param a - A ZERO cell
+     * @param b - Another ZERO cell
+     * @return <code>true</code> if the cells were in different openings
+     */
+    private boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) return false;
+        // The lowest cell of an opening stays its root.
+        if (rootA < rootB) parent[rootB] = rootA;
+        else parent[rootA] = rootB;
+        return true;
+    }
+
+    /**
+     * Generates and analyzes boards seeded with firstSeed, firstSeed + 1, ... in parallel, for tuning bomb density
+     * and difficulty. The seed range is split into leaves, each with its own summary, and every leaf reuses one layout
+     * and one analyzer for all of its seeds. A summary holds its layout until it is merged, so there can be more
+     * layouts in memory than workers, but never one per board.
+     *
+     * @param topology - The topology of the boards
+     * @param numBombs - The number of bombs on every board
+     * @param safeCell - The cell kept free of bombs with its neighbors, or -1 for none
+     * @param firstSeed - The seed of the first board
+     * @param count - The number of boards to analyze
+     * @return a summary of the metrics of all the boards
+     * @throws IllegalArgumentException When the bombs do not fit outside of the safe area.
+     */
+    public static Summary analyzeSeeds(Topology topology, int numBombs, int safeCell, long firstSeed, long count)
+        throws IllegalArgumentException {
+        BoardLayout.checkBombs(topology, numBombs, safeCell);
+        return LongStream.range(firstSeed, firstSeed + count).parallel()
+            .collect(() -> new Summary(topology), (summary, seed) -> summary.add(numBombs, safeCell, seed),
+                Summary::merge);
+    }
+
+    /**
+     * The difficulty metrics of one board.
+     */
+    public static class Metrics {
+
+        private int cells; // The number of cells on the board.
+        private int bombs; // The number of bombs on the board.
+        private int zeros; // The number of ZERO tiles on the board.
+        private int openings; // The number of connected regions of ZERO tiles.
+        private int isolatedNumbers; // The number of number tiles that do not border a ZERO tile.
+
+        /**
+         * Returns the 3BV of the board, the minimum number of clicks needed to clear it.
+         *
+         * @return the 3BV of the board
+         */
+        public int getThreeBV() {
+            return openings + isolatedNumbers;
+        }
+
+        /**
+         * Returns the number of openings, the connected regions of ZERO tiles.
+         *
+         * @return the number of openings
+         */
+        public int getOpenings() {
+            return openings;
+        }
+
+        /**
+         * Returns the number of number tiles that do not border an opening.
+         *
+         * @return the number of isolated number tiles
+         */
+        public int getIsolatedNumbers() {
+            return isolatedNumbers;
+        }
+
+        /**
+         * Returns the number of ZERO tiles.
+         *
+         * @return the number of ZERO tiles
+         */
+        public int getZeros() {
+            return zeros;
+        }
+
+        /**
+         * Returns the number of non-bomb tiles.
+         *
+         * @return the number of non-bomb tiles
+         */
+        public int getSafeCells() {
+            return cells - bombs;
+        }
+
+        /**
+         * Returns the 3BV divided by the number of non-bomb tiles. Higher values need more clicks per tile.
+         *
+         * @return the 3BV per non-bomb tile
+         */
+        public double getThreeBVDensity() {
+            return getSafeCells() == 0 ? 0 : (double) getThreeBV() / getSafeCells();
+        }
+    }
+
+    /**
+     * A summary of the metrics of many boards. While collecting, every leaf of the seed range has its own summary.
+     */
+    public static class Summary {
+
+        private final Topology topology; // The topology of the boards.
+        private BoardLayout layout; // The layout reused for every board of this leaf of the seed range.
+        private BoardAnalyzer analyzer; // The analyzer reused for every board of this leaf of the seed range.
+        private Metrics metrics; // The metrics reused for every board of this leaf of the seed range.
+        private long boards; // The number of boards summarized.
+        private long totalThreeBV; // The sum of the 3BV of all boards.
+        private long totalOpenings; // The sum of the openings of all boards.
+        private long totalIsolatedNumbers; // The sum of the isolated numbers of all boards.
+        private int minThreeBV; // The lowest 3BV of any board.
+        private int maxThreeBV; // The highest 3BV of any board.
+
+        private Summary(Topology topology) {
+            this.topology = topology;
+            this.boards = 0;
+            this.minThreeBV = Integer.MAX_VALUE;
+            this.maxThreeBV = 0;
+        }
+
+        private void add(int numBombs, int safeCell, long seed) {
+            if (layout == null) {
+                layout = new BoardLayout(topology);
+                analyzer = new BoardAnalyzer();
+                metrics = new Metrics();
+            }
+            layout.generate(numBombs, new SplittableRandom(seed), safeCell);
+            analyzer.analyze(layout, metrics);
+
+            int threeBV = metrics.getThreeBV();
+            boards++;
+            totalThreeBV += threeBV;
+            totalOpenings += metrics.getOpenings();
+            totalIsolatedNumbers += metrics.getIsolatedNumbers();
+            minThreeBV = Math.min(minThreeBV, threeBV);
+            maxThreeBV = Math.max(maxThreeBV, threeBV);
+        }
+
+        private void merge(Summary other) {
+            boards += other.boards;
+            totalThreeBV += other.totalThreeBV;
+            totalOpenings += other.totalOpenings;
+            totalIsolatedNumbers += other.totalIsolatedNumbers;
+            minThreeBV = Math.min(minThreeBV, other.minThreeBV);
+            maxThreeBV = Math.max(maxThreeBV, other.maxThreeBV);
+        }
+
+        /**
+         * Returns the number of boards summarized.
+         *
+         * @return the number of boards
+         */
+        public long getBoards() {
+            return boards;
+        }
+
+        /**
+         * Returns the average 3BV of the boards.
+         *
+         * @return the average 3BV
+         */
+        public double getAverageThreeBV() {
+            return boards == 0 ? 0 : (double) totalThreeBV / boards;
+        }
+
+        /**
+         * Returns the average number of openings of the boards.
+         *
+         * @return the average number of openings
+         */
+        public double getAverageOpenings() {
+            return boards == 0 ? 0 : (double) totalOpenings / boards;
+        }
+
+        /**
+         * Returns the average number of isolated number tiles of the boards.
+         *
+         * @return the average number of isolated number tiles
+         */
+        public double getAverageIsolatedNumbers() {
+            return boards == 0 ? 0 : (double) totalIsolatedNumbers / boards;
+        }
+
+        /**
+         * Returns the lowest 3BV of any board, or 0 if there are no boards.
+         *
+         * @return the lowest 3BV
+         */
+        public int getMinThreeBV() {
+            return boards == 0 ? 0 : minThreeBV;
+        }
+
+        /**
+         * Returns the highest 3BV of any board.
+         *
+         * @return the highest 3BV
+         */
+        public int getMaxThreeBV() {
+            return maxThreeBV;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Java Minesweeper - BoardLayout
+ *
+ * The hidden layout of a Minesweeper board: where the bombs are and how many bombs neighbor every other tile.
+ * Stored as one byte per cell, so layouts can be generated and analyzed without creating tiles.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class BoardLayout {
+
+    public static final byte BOMB = 9; // The value of a bomb cell. The same as the ordinal of Tile.TileType.BOMB.
+
+    private static final Tile.TileType[] TYPES = Tile.TileType.values(); // The tile type of every cell value.
+
+    private final Topology topology; // The neighbors of every cell.
+    private final byte[] cells; // The number of neighboring bombs of every cell, or BOMB.
+    private int numBombs; // The number of bombs in the layout.
+
+    /**
+     * Creates an empty layout on the given topology.
+     *
+     * @param topology - The topology of the board
+     */
+    public BoardLayout(Topology topology) {
+        this.topology = topology;
+        this.cells = new byte[topology.getCells()];
+        this.numBombs = 0;
+    }
+
+    /**
+     * Creates a layout with bombs at random locations. The safe cell and its neighbors will not contain bombs.
+     *
+     * @param topology - The topology of the board
+     * @param numBombs - The number of bombs to place
+     * @param random - The source of the bomb locations
+     * @param safeCell - The cell kept free of bombs with its neighbors, or -1 for none
+     * @return the generated layout
+     * @throws IllegalArgumentException When the bombs do not fit outside of the safe area.
+     */
+    public static BoardLayout generate(Topology topology, int numBombs, SplittableRandom random, int safeCell) {
+        BoardLayout layout = new BoardLayout(topology);
+        layout.generate(numBombs, random, safeCell);
+        return layout;
+    }
+
+    /**
+     * Replaces this layout with bombs at new random locations. The safe cell and its neighbors will not contain bombs.
+     *
+     * @param numBombs - The number of bombs to place
+     * @param random - The source of the bomb locations
+     * @param safeCell - The cell kept free of bombs with its neighbors, or -1 for none
+     * @throws IllegalArgumentException When the bombs do not fit outside of the safe area.
+     */
+    public void generate(int numBombs, SplittableRandom random, int safeCell) throws IllegalArgumentException {
+        checkBombs(topology, numBombs, safeCell);
+        Arrays.fill(cells, (byte) 0);
+        this.numBombs = numBombs;
+
+        for (int placed = 0; placed < numBombs; placed++) {
+            int cell = -1;
+
+            do {
+                cell = random.nextInt(cells.length);
+                // redo if the cell is a bomb, or if it is the safe cell or neighboring it.
+            } while (cells[cell] == BOMB || (safeCell >= 0 && (cell == safeCell || topology.isNeighbor(safeCell, cell))));
+
+            cells[cell] = BOMB;
+        }
+
+        // Counts the bombs around every cell by adding each bomb to its neighbors.
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] != BOMB) continue;
+            for (int i = topology.firstNeighbor(cell), end = topology.endNeighbor(cell); i < end; i++) {
+                int neighbor = topology.neighbor(cell, i);
+                if (cells[neighbor] != BOMB) cells[neighbor]++;
+            }
+        }
+    }
+
+    /**
+     * Checks that a number of bombs fits on a topology outside of the safe area, so that generating a layout ends.
+     *
+     * @param topology - The topology of the board
+     * @param numBombs - The number of bombs to place
+     * @param safeCell - The cell kept free of bombs with its neighbors, or -1 for none
+     * @throws IllegalArgumentException When the safe cell is out of bounds or the bombs do not fit.
+     */
+    static void checkBombs(Topology topology, int numBombs, int safeCell) throws IllegalArgumentException {
+        if (numBombs < 0) throw new IllegalArgumentException("Number of bombs can't be less than 0");
+        if (safeCell < -1 || safeCell >= topology.getCells()) {
+            throw new IllegalArgumentException("safeCell is out of bounds");
+        }
+        int freeCells = topology.getCells();
+        // The neighbors of a cell are distinct and do not include the cell itself.
+        if (safeCell >= 0) freeCells -= 1 + topology.endNeighbor(safeCell) - topology.firstNeighbor(safeCell);
+        if (numBombs > freeCells) throw new IllegalArgumentException("Not enough cells outside of the safe area for "
+            + numBombs + " bombs");
+    }
+
+    /**
+     * Moves every bomb in the safe area, the safe cell and its neighbors, to a random cell outside of it. Only the
+     * counts around the moved bombs are updated, so this takes constant time on boards that are not almost full.
+     *
+     * @param safeCell - The cell to keep free of bombs with its neighbors
+     * @param random - The source of the new bomb locations
+     * @param moved - An array of at least 9 ints the new cells of the moved bombs are written to
+     * @return the number of bombs moved
+     */
+    public int clearArea(int safeCell, SplittableRandom random, int[] moved) {
+        int count = 0;
+        if (cells[safeCell] == BOMB) moved[count++] = moveBomb(safeCell, safeCell, random);
+        for (int i = topology.firstNeighbor(safeCell), end = topology.endNeighbor(safeCell); i < end; i++) {
+            int from = topology.neighbor(safeCell, i);
+            if (cells[from] == BOMB) moved[count++] = moveBomb(from, safeCell, random);
+        }
+        return count;
+    }
+
+    /**
+     * Moves a bomb to a random cell outside of the safe area and updates the counts around both cells.
+     *
+     * @param from - The cell of the bomb
+     * @param safeCell - The cell kept free of bombs with its neighbors
+     * @param random - The source of the new bomb location
+     * @return the new cell of the bomb
+     */
+    private int moveBomb(int from, int safeCell, SplittableRandom random) {
+        int to = -1;
+        do {
+            to = random.nextInt(cells.length);
+            // redo if the cell is a bomb, or if it is the safe cell or neighboring it.
+        } while (cells[to] == BOMB || to == safeCell || topology.isNeighbor(safeCell, to));
+
+        // Removes the bomb and counts the bombs around the cell it leaves.
+        byte adjBombs = 0;
+        for (int i = topology.firstNeighbor(from), end = topology.endNeighbor(from); i < end; i++) {
+            int neighbor = topology.neighbor(from, i);
+            if (cells[neighbor] == BOMB) adjBombs++;
+            else cells[neighbor]--;
+        }
+        cells[from] = adjBombs;
+
+        // Places the bomb at its new cell.
+        cells[to] = BOMB;
+        for (int i = topology.firstNeighbor(to), end = topology.endNeighbor(to); i < end; i++) {
+            int neighbor = topology.neighbor(to, i);
+            if (cells[neighbor] != BOMB) cells[neighbor]++;
+        }
+        return to;
+    }
+
+    /**
+     * Returns the number of neighboring bombs of a cell, or BOMB if the cell is a bomb.
+     *
+     * @param cell - The cell
+     * @return the value of the cell
+     */
+    public byte get(int cell) {
+        return cells[cell];
+    }
+
+    /**
+     * Returns whether or not a cell is a bomb.
+     *
+     * @param cell - The cell
+     * @return <code>true</code> if the cell is a bomb
+     */
+    public boolean isBomb(int cell) {
+        return cells[cell] == BOMB;
+    }
+
+    /**
+     * Returns the tile type of a cell.
+     *
+     * @param cell - The cell
+     * @return the tile type of the cell
+     */
+    public Tile.TileType getType(int cell) {
+        return TYPES[cells[cell]];
+    }
+
+    /**
+     * Returns the topology of the board.
+     *
+     * @return the topology of the board.
+     */
+    public Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Returns the number of bombs in the layout.
+     *
+     * @return the number of bombs in the layout.
+     */
+    public int getNumBombs() {
+        return numBombs;
+    }
+}
@@ -0,0 +1,252 @@
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Java Minesweeper - BoardPool
+ *
+ * A pool of square grid layouts generated ahead of time on a background thread, so that a new game does not have to
+ * generate its board when the first tile is clicked. Layouts are generated without a safe starting area; the game
+ * moves the few bombs out of the starting area instead.
+ *
+ * Only prewarmed configurations (rows, columns and bombs) are pooled, and each is refilled after every take. The pool
+ * keeps up to maxPerConfig layouts per configuration and up to maxCells cells across all layouts. When a layout does
+ * not fit, the least recently used configurations are evicted to make room.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class BoardPool implements Closeable {
+
+    private final int maxPerConfig; // The maximum number of layouts kept for one configuration.
+    private final long maxCells; // The maximum number of cells of all pooled layouts together.
+    private final LinkedHashMap<String, Entry> entries; // The pooled configurations, least recently used first.
+    private final ExecutorService generator; // The background thread generating layouts.
+    private long cells; // The number of cells of all pooled layouts, including the ones being generated.
+    private long hits; // The number of takes that returned a layout.
+    private long misses; // The number of takes that found no layout ready.
+    private long evictions; // The number of configurations evicted to make room.
+    private boolean closed; // Whether or not the pool was closed. A closed pool generates and hands out no layouts.
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param maxPerConfig - The maximum number of layouts kept for one configuration.
+     * @param maxCells - The maximum number of cells of all pooled layouts together. Every cell takes one byte.
+     * @throws IllegalArgumentException When a limit is less than 1.
+     */
+    public BoardPool(int maxPerConfig, long maxCells) throws IllegalArgumentException {
+        if (maxPerConfig < 1 || maxCells < 1) throw new IllegalArgumentException("Pool limits must be at least 1");
+        this.maxPerConfig = maxPerConfig;
+        this.maxCells = maxCells;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+        this.generator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BoardPool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cells = 0;
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+        this.closed = false;
+    }
+
+    /**
+     * Starts pooling a configuration, generating its layouts in the background.
+     *
+     * @param rows - The number of rows of the board
+     * @param cols - The number of columns of the board
+     * @param numBombs - The number of bombs on the board
+     * @return <code>true</code> if the configuration is pooled, <code>false</code> if no game can be made with it,
+     * one layout of it is larger than the pool, or the pool is closed.
+     */
+    public synchronized boolean prewarm(int rows, int cols, int numBombs) {
+        if (closed) return false;
+        if (rows < 1 || cols < 1 || numBombs < 0 || (long) rows * cols - 9 < numBombs) return false;
+        if ((long) rows * cols > maxCells) return false;
+
+        String key = key(rows, cols, numBombs);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(new SquareTopology(rows, cols), numBombs);
+            entries.put(key, entry);
+        }
+        refill(entry);
+        return true;
+    }
+
+    /**
+     * Takes a pre-generated layout of a prewarmed configuration and schedules a replacement.
+     *
+     * @param rows - The number of rows of the board
+     * @param cols - The number of columns of the board
+     * @param numBombs - The number of bombs on the board
+     * @return a layout without a safe area, or <code>null</code> if none is ready or the pool is closed.
+     */
+    public synchronized BoardLayout take(int rows, int cols, int numBombs) {
+        Entry entry = closed ? null : entries.get(key(rows, cols, numBombs));
+        BoardLayout layout = entry == null ? null : entry.layouts.poll();
+        if (layout == null) {
+            misses++;
+        } else {
+            hits++;
+            cells -= entry.cells;
+        }
+        if (entry != null) refill(entry);
+        return layout;
+    }
+
+    /**
+     * Returns the key of a configuration.
+     */
+    private static String key(int rows, int cols, int numBombs) {
+        return rows + "x" + cols + "x" + numBombs;
+    }
+
+    /**
+     * Schedules the background thread to fill an entry, unless it is already scheduled or full, or the pool is closed.
+     */
+    private void refill(Entry entry) {
+        if (closed || entry.scheduled || entry.layouts.size() >= maxPerConfig) return;
+        entry.scheduled = true;
+        generator.execute(() -> fill(entry));
+    }
+
+    /**
+     * Generates layouts for an entry until it is full, evicted, or no room can be made for it. Runs on the
+     * background thread, and only holds the lock between layouts.
+     */
+    private void fill(Entry entry) {
+        while (true) {
+            synchronized (this) {
+                if (closed || entry.evicted || entry.layouts.size() >= maxPerConfig || !reserve(entry)) {
+                    entry.scheduled = false;
+                    return;
+                }
+            }
+
+            BoardLayout layout = BoardLayout.generate(entry.topology, entry.numBombs, entry.random, -1);
+
+            synchronized (this) {
+                // Closing the pool already released every reservation.
+                if (closed) return;
+                if (entry.evicted) {
+                    cells -= entry.cells;
+                    entry.scheduled = false;
+                    return;
+                }
+                entry.layouts.add(layout);
+            }
+        }
+    }
+
+    /**
+     * Reserves the cells of one more layout of an entry, evicting the least recently used other entries if needed.
+     *
+     * @return <code>true</code> if the cells were reserved
+     */
+    private boolean reserve(Entry entry) {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (cells + entry.cells > maxCells && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            if (evicted == entry) continue;
+            eldest.remove();
+            evicted.evicted = true;
+            cells -= evicted.cells * evicted.layouts.size();
+            evicted.layouts.clear();
+            evictions++;
+        }
+        if (cells + entry.cells > maxCells) return false;
+        cells += entry.cells;
+        return true;
+    }
+
+    /**
+     * Returns the number of takes that returned a layout.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of takes that found no layout ready.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of configurations evicted to make room for others.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of layouts ready in the pool.
+     *
+     * @return the number of pooled layouts
+     */
+    public synchronized int size() {
+        int size = 0;
+        for (Entry entry : entries.values()) size += entry.layouts.size();
+        return size;
+    }
+
+    /**
+     * Returns the number of cells of all pooled layouts, including the ones being generated.
+     *
+     * @return the number of pooled cells
+     */
+    public synchronized long getCells() {
+        return cells;
+    }
+
+    /**
+     * Stops generating layouts and drops the pooled ones. Later takes count as misses.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        generator.shutdownNow();
+        for (Entry entry : entries.values()) entry.layouts.clear();
+        entries.clear();
+        cells = 0;
+    }
+
+    /**
+     * The pooled layouts of one configuration.
+     */
+    private static class Entry {
+
+        private final Topology topology; // The topology shared by all layouts of the configuration.
+        private final int numBombs; // The number of bombs on every layout.
+        private final long cells; // The number of cells of every layout.
+        private final ArrayDeque<BoardLayout> layouts; // The layouts ready to be taken.
+        private final SplittableRandom random; // The source of the bomb locations. Only used by the generator.
+        private boolean scheduled; // Whether or not a fill is waiting or running.
+        private boolean evicted; // Whether or not the configuration was evicted from the pool.
+
+        Entry(Topology topology, int numBombs) {
+            this.topology = topology;
+            this.numBombs = numBombs;
+            this.cells = topology.getCells();
+            this.layouts = new ArrayDeque<BoardLayout>();
+            this.random = new SplittableRandom();
+            this.scheduled = false;
+            this.evicted = false;
+        }
+    }
+}
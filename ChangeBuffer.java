@@ -0,0 +1,116 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Java Minesweeper - ChangeBuffer
+ *
+ * A growable buffer of tile changes stored as primitive ints. Each change has a kind and the position of the tile
+ * that changed. The buffer is meant to be cleared and reused instead of reallocated for every move.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class ChangeBuffer {
+
+    public static final int REVEALED = 0; // The tile was revealed.
+    public static final int FLAGGED = 1; // The tile was flagged.
+    public static final int UNFLAGGED = 2; // The tile was unflagged.
+
+    private int[] data; // The changes, stored as {kind, row, col} triples.
+    private int size; // The number of changes in the buffer.
+
+    /**
+     * Creates an empty change buffer.
+     */
+    public ChangeBuffer() {
+        this.data = new int[48];
+        this.size = 0;
+    }
+
+    /**
+     * Creates a buffer over changes that were already written as {kind, row, col} triples, without copying them.
+     *
+     * @param data - The changes. The buffer takes ownership of the array.
+     * @param size - The number of changes in data
+     */
+    ChangeBuffer(int[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    /**
+     * Adds a change to the end of the buffer.
+     *
+     * @param kind - The kind of change. One of REVEALED, FLAGGED or UNFLAGGED.
+     * @param row - The row of the changed tile
+     * @param col - The column of the changed tile
+     */
+    public void add(int kind, int row, int col) {
+        if (size * 3 == data.length) data = Arrays.copyOf(data, data.length * 2);
+        data[size * 3] = kind;
+        data[size * 3 + 1] = row;
+        data[size * 3 + 2] = col;
+        size++;
+    }
+
+    /**
+     * Removes all changes from the buffer while keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of changes in the buffer.
+     *
+     * @return the number of changes in the buffer.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kind of the change at the given index.
+     *
+     * @param index - The index of the change
+     * @return REVEALED, FLAGGED or UNFLAGGED
+     */
+    public int getKind(int index) {
+        return data[index * 3];
+    }
+
+    /**
+     * Returns the row of the tile of the change at the given index.
+     *
+     * @param index - The index of the change
+     * @return the row of the changed tile
+     */
+    public int getRow(int index) {
+        return data[index * 3 + 1];
+    }
+
+    /**
+     * Returns the column of the tile of the change at the given index.
+     *
+     * @param index - The index of the change
+     * @return the column of the changed tile
+     */
+    public int getCol(int index) {
+        return data[index * 3 + 2];
+    }
+
+    /**
+     * Returns the positions of the changes from the given index onwards.
+     *
+     * @param from - The index of the first change to include
+     * @return An ArrayList of {row, col} positions.
+     */
+    public ArrayList<int[]> toPositions(int from) {
+        ArrayList<int[]> arr = new ArrayList<int[]>(Math.max(size - from, 0));
+        for (int i = from; i < size; i++) {
+            int[] pos = {getRow(i), getCol(i)};
+            arr.add(pos);
+        }
+        return arr;
+    }
+}
@@ -7,10 +7,14 @@ import java.util.Objects;
  * A class that allows the Minesweeper game to be played on a console.
  * 
  * @author Yohan Berg
- * @version January 4, 2021
+ * @version October 19, 2026
  */
 public class ConsolePlayer {
 
+    private static boolean won = false; // Whether or not the game has been won.
+    private static boolean lost = false; // Whether or not the game has been lost.
+    private static final File SCORES_FILE = new File("highscores.dat"); // The log of the high score store.
+
     public static void main(String[] args) throws IOException, ImpossibleBoardException {
         BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
         String in = null;
@@ -24,125 +28,160 @@ public class ConsolePlayer {
         int numBombs = Integer.parseInt(reader.readLine());
         
         Game game = new Game(rows, cols, numBombs);
+        game.addListener(new GameListener() {
+            public void gameWon(long time) {
+                won = true;
+            }
 
-        boolean loss = false;
-        boolean doLoop = true;
-        while (doLoop) {
-            System.out.println("Please enter your command. Type 'help' for list of commands");
-            in = reader.readLine().toLowerCase();
-            switch (in) {
-                case "help":
-                    System.out.println("Possible commands:");
-                    System.out.println("'help': Shows this list");
-                    System.out.println("'bombs': Displays total bombs - flagged tiles and how many total bombs there are");
-                    System.out.println("'start_game:[row],[column]': Starts the game with the position row and column");
-                    System.out.println("'reveal:[row],[column]': Reveals the tile at row and column. " +
-                    "Game must be started.");
-                    System.out.println("'flag:[row],[column]': Flags the tile at row and column");
-                    System.out.println("'unflag:[row],[column]': Unflags the tile at row and column");
-                    System.out.println("'display': Displays the current board");
-                    System.out.println("'time': Displays your current time in seconds.");
-                    System.out.println("'quit': Ends the program");
-                    break;
-                case "time":
-                    Long time = game.getTime();
-                    if (Objects.isNull(time)) {
-                        System.out.println("Game has not been started yet!");
-                    } else {
-                        System.out.println("Time: " + (time / 1000));
-                    }
-                    break;
-                case "display":
-                    printBoard(game.getBoard(), game.isStarted());
-                    break;
-                case "bombs":
-                    int[] bombInfo = game.getBombInfo();
-                    System.out.println(bombInfo[0] + " flagged bombs out of " + bombInfo[1] + " total bombs");
-                    break;
-                case "quit":
-                    System.out.println("Quitting...");
-                    doLoop = false;
-                    break;
-                default:
-                    if (in.contains(":")) {
-                        int index = in.indexOf(":");
-                        if (in.substring(0, index).equals("start_game")) {
-                            try {
-                                int commaIndex = in.indexOf(",");
-                                if (commaIndex == -1) {
-                                    System.out.println("Parameters could not be separated. Please separate with a ','");
-                                    break;
-                                }
-                                int row = Integer.parseInt(in.substring(index + 1, commaIndex)) - 1;
-                                int col = Integer.parseInt(in.substring(commaIndex + 1)) - 1;
+            public void gameLost(long time) {
+                lost = true;
+            }
+        });
 
-                                game.startGame(row, col);
-                                printBoard(game.getBoard(), game.isStarted());
-                            } catch (NumberFormatException e) {
-                                System.out.println("Invalid parameters. Please enter whole numbers");
-                            }
-                        } else if (in.substring(0, index).equals("reveal")) {
-                            try {
-                                int commaIndex = in.indexOf(",");
-                                if (commaIndex == -1) {
-                                    System.out.println("Parameters could not be separated. Please separate with a ','");
-                                    break;
-                                }
-                                int row = Integer.parseInt(in.substring(index + 1, commaIndex)) - 1;
-                                int col = Integer.parseInt(in.substring(commaIndex + 1)) - 1;
+        // The store is opened once, as opening it reads the whole log. The game can be played without it.
+        HighScoreStore store = null;
+        try {
+            store = new HighScoreStore(SCORES_FILE);
+        } catch (IOException e) {
+            System.out.println("High scores are unavailable: " + e.getMessage());
+        }
 
-                                game.revealTile(row, col);
-                                if (game.getBoard()[col][row].getType().equals(Tile.TileType.BOMB)) {
-                                    loss = true;
+        try (HighScoreStore scores = store) {
+            boolean doLoop = true;
+            while (doLoop) {
+                System.out.println("Please enter your command. Type 'help' for list of commands");
+                in = reader.readLine().toLowerCase();
+                switch (in) {
+                    case "help":
+                        System.out.println("Possible commands:");
+                        System.out.println("'help': Shows this list");
+                        System.out.println("'bombs': Displays total bombs - flagged tiles and how many total bombs there are");
+                        System.out.println("'start_game:[row],[column]': Starts the game with the position row and column");
+                        System.out.println("'reveal:[row],[column]': Reveals the tile at row and column. " +
+                        "Game must be started.");
+                        System.out.println("'flag:[row],[column]': Flags the tile at row and column");
+                        System.out.println("'unflag:[row],[column]': Unflags the tile at row and column");
+                        System.out.println("'display': Displays the current board");
+                        System.out.println("'time': Displays your current time in seconds.");
+                        System.out.println("'scores': Displays the 5 best times for this board size and bombs");
+                        System.out.println("'quit': Ends the program");
+                        break;
+                    case "time":
+                        Long time = game.getTime();
+                        if (Objects.isNull(time)) {
+                            System.out.println("Game has not been started yet!");
+                        } else {
+                            System.out.println("Time: " + (time / 1000));
+                        }
+                        break;
+                    case "display":
+                        printBoard(game.getBoard(), game.isStarted());
+                        break;
+                    case "scores":
+                        if (Objects.isNull(scores)) {
+                            System.out.println("High scores are unavailable!");
+                            break;
+                        }
+                        long[] top = scores.top(rows, cols, numBombs, 5);
+                        if (top.length == 0) System.out.println("No high scores yet!");
+                        for (int i = 0; i < top.length; i++) {
+                            System.out.println((i + 1) + ". " + (top[i] / 1000.0) + " seconds");
+                        }
+                        break;
+                    case "bombs":
+                        int[] bombInfo = game.getBombInfo();
+                        System.out.println(bombInfo[0] + " flagged bombs out of " + bombInfo[1] + " total bombs");
+                        break;
+                    case "quit":
+                        System.out.println("Quitting...");
+                        doLoop = false;
+                        break;
+                    default:
+                        if (in.contains(":")) {
+                            int index = in.indexOf(":");
+                            if (in.substring(0, index).equals("start_game")) {
+                                try {
+                                    int commaIndex = in.indexOf(",");
+                                    if (commaIndex == -1) {
+                                        System.out.println("Parameters could not be separated. Please separate with a ','");
+                                        break;
+                                    }
+                                    int row = Integer.parseInt(in.substring(index + 1, commaIndex)) - 1;
+                                    int col = Integer.parseInt(in.substring(commaIndex + 1)) - 1;
+
+                                    game.startGame(row, col);
+                                    printBoard(game.getBoard(), game.isStarted());
+                                } catch (NumberFormatException e) {
+                                    System.out.println("Invalid parameters. Please enter whole numbers");
                                 }
-                                printBoard(game.getBoard(), game.isStarted());
-                            } catch (NumberFormatException e) {
-                                System.out.println("Invalid parameters. Please enter whole numbers");
-                            }
-                        } else if (in.substring(0, index).equals("flag")) {
-                            try {
-                                int commaIndex = in.indexOf(",");
-                                if (commaIndex == -1) {
-                                    System.out.println("Parameters could not be separated. Please separate with a ','");
-                                    break;
+                            } else if (in.substring(0, index).equals("reveal")) {
+                                try {
+                                    int commaIndex = in.indexOf(",");
+                                    if (commaIndex == -1) {
+                                        System.out.println("Parameters could not be separated. Please separate with a ','");
+                                        break;
+                                    }
+                                    int row = Integer.parseInt(in.substring(index + 1, commaIndex)) - 1;
+                                    int col = Integer.parseInt(in.substring(commaIndex + 1)) - 1;
+
+                                    game.revealTile(row, col);
+                                    printBoard(game.getBoard(), game.isStarted());
+                                } catch (NumberFormatException e) {
+                                    System.out.println("Invalid parameters. Please enter whole numbers");
                                 }
-                                int row = Integer.parseInt(in.substring(index + 1, commaIndex)) - 1;
-                                int col = Integer.parseInt(in.substring(commaIndex + 1)) - 1;
+                            } else if (in.substring(0, index).equals("flag")) {
+                                try {
+                                    int commaIndex = in.indexOf(",");
+                                    if (commaIndex == -1) {
+                                        System.out.println("Parameters could not be separated. Please separate with a ','");
+                                        break;
+                                    }
+                                    int row = Integer.parseInt(in.substring(index + 1, commaIndex)) - 1;
+                                    int col = Integer.parseInt(in.substring(commaIndex + 1)) - 1;
 
-                                game.flagTile(row, col);
-                                printBoard(game.getBoard(), game.isStarted());
-                            } catch (NumberFormatException e) {
-                                System.out.println("Invalid parameters. Please enter whole numbers");
-                            }
-                        } else if (in.substring(0, index).equals("unflag")) {
-                            try {
-                                int commaIndex = in.indexOf(",");
-                                if (commaIndex == -1) {
-                                    System.out.println("Parameters could not be separated. Please separate with a ','");
-                                    break;
+                                    game.flagTile(row, col);
+                                    printBoard(game.getBoard(), game.isStarted());
+                                } catch (NumberFormatException e) {
+                                    System.out.println("Invalid parameters. Please enter whole numbers");
                                 }
-                                int row = Integer.parseInt(in.substring(index + 1, commaIndex)) - 1;
-                                int col = Integer.parseInt(in.substring(commaIndex + 1)) - 1;
+                            } else if (in.substring(0, index).equals("unflag")) {
+                                try {
+                                    int commaIndex = in.indexOf(",");
+                                    if (commaIndex == -1) {
+                                        System.out.println("Parameters could not be separated. Please separate with a ','");
+                                        break;
+                                    }
+                                    int row = Integer.parseInt(in.substring(index + 1, commaIndex)) - 1;
+                                    int col = Integer.parseInt(in.substring(commaIndex + 1)) - 1;
 
-                                game.unflagTile(row, col);
-                                printBoard(game.getBoard(), game.isStarted());
-                            } catch (NumberFormatException e) {
-                                System.out.println("Invalid parameters. Please enter whole numbers");
+                                    game.unflagTile(row, col);
+                                    printBoard(game.getBoard(), game.isStarted());
+                                } catch (NumberFormatException e) {
+                                    System.out.println("Invalid parameters. Please enter whole numbers");
+                                }
                             }
-                        }
-                        else {
+                            else {
+                                System.out.println("Unknown request. Type 'help' to see valid commands");
+                            }
+                        } else {
                             System.out.println("Unknown request. Type 'help' to see valid commands");
                         }
-                    } else {
-                        System.out.println("Unknown request. Type 'help' to see valid commands");
+                }
+                if (lost) {
+                    System.out.println("You lost! Time: " + (game.getTime() / 1000));
+                    break;
+                } else if (won) {
+                    System.out.println("You won! Time: " + (game.getTime() / 1000));
+                    if (!Objects.isNull(scores)) {
+                        try {
+                            int rank = scores.submit(rows, cols, numBombs, game.getTime());
+                            System.out.println("Rank: " + rank + " of " + scores.count(rows, cols, numBombs));
+                        } catch (IOException e) {
+                            System.out.println("Could not save your time: " + e.getMessage());
+                        }
                     }
-            }
-            if (loss) {
-                System.out.println("You lost! Time: " + (game.getTime() / 1000));
-                break;
-            } else if (game.checkWin()) {
-                System.out.println("You won! Time: " + (game.getTime() / 1000));
-                break;
+                    break;
+                }
             }
         }
     }
@@ -17,7 +17,7 @@ import java.util.ArrayList;
  * A class that allows the Minesweeper game to be played through a GUI
  * 
  * @author Yohan Berg
- * @version January 4, 2021
+ * @version October 19, 2026
  */
 public class GUIPlayer extends JComponent implements Runnable {
     
@@ -28,6 +28,7 @@ public class GUIPlayer extends JComponent implements Runnable {
     JButton startButton; // A button that uses the height and width provided to create a minesweeper game.
     JButton[][] gameButtons; // An 2D array storing the minesweeper tile buttons.
     Game game; // The minesweeper game object.
+    BoardPool pool; // Boards generated in the background, so that new games start without generating one.
 
     public static void main(String[] args) {
         SwingUtilities.invokeLater(new GUIPlayer());
@@ -63,6 +64,10 @@ public class GUIPlayer extends JComponent implements Runnable {
 
         gameButtons = null;
 
+        // Pre-generates boards of the default size.
+        pool = new BoardPool(4, 1 << 20);
+        pool.prewarm(16, 30, 99);
+
         ActionListener actionListener = new ActionListener() {
             public void actionPerformed(ActionEvent e) {
 
@@ -83,7 +88,7 @@ public class GUIPlayer extends JComponent implements Runnable {
 
                 // Catching illegal board size for game.
                 try {
-                    game = new Game(rows, cols, numBombs);
+                    game = new Game(rows, cols, numBombs, pool);
                 } catch (ImpossibleBoardException ex) {
                     JOptionPane.showMessageDialog(null, "Could not generate board with given fields! " 
                         + "Please make sure the board is large enough to hold all the bombs " 
@@ -91,6 +96,45 @@ public class GUIPlayer extends JComponent implements Runnable {
                     return;
                 }
 
+                // Updates only the buttons of the tiles that changed.
+                game.addListener(new GameListener() {
+                    public void timerStarted() {
+                        // Hidden tiles are displayed as "-" once the game has started.
+                        for (JButton[] buttonRow : gameButtons) {
+                            for (JButton button : buttonRow) {
+                                button.setText("-");
+                            }
+                        }
+                    }
+
+                    public void cellsRevealed(ChangeBuffer changes, int from, int to) {
+                        for (int i = from; i < to; i++) {
+                            int r = changes.getRow(i);
+                            int c = changes.getCol(i);
+                            String display = switch (game.getTile(r, c).getType()) {
+                                case BOMB ->    "B";
+                                case ZERO ->    "0";
+                                case ONE ->     "1";
+                                case TWO ->     "2";
+                                case THREE ->   "3";
+                                case FOUR ->    "4";
+                                case FIVE ->    "5";
+                                case SIX ->     "6";
+                                case SEVEN ->   "7";
+                                case EIGHT ->   "8";
+                                default ->      "?";
+                            };
+                            gameButtons[r][c].setText(display);
+                            gameButtons[r][c].setEnabled(false);
+                        }
+                    }
+
+                    public void flagChanged(int row, int col, boolean flagged) {
+                        gameButtons[row][col].setText(flagged ? "X" : "-");
+                        gameButtons[row][col].setEnabled(!flagged);
+                    }
+                });
+
                 gamePanel.removeAll();
                 gamePanel.setLayout(new GridLayout(rows, cols));
 
@@ -109,37 +153,9 @@ public class GUIPlayer extends JComponent implements Runnable {
                                 int row = Integer.valueOf(button.getName().split(",")[0]);
                                 int col = Integer.valueOf(button.getName().split(",")[1]);
                                 if (game.isStarted()) {
-                                    // Call revealTile at row and col of button
-                                    // and create a display text for all revealed buttons.
-
+                                    // Call revealTile at row and col of button.
+                                    // The game listener updates the buttons of all revealed tiles.
                                     game.revealTile(row, col);
-
-                                    // Below code is attempted smart reveal.
-                                    // for (int[] pos : game.revealTile(row, col)) {
-                                    //     String display = "?";
-                                    //     Tile tile = game.getTile(row, col);
-                                    //     if (tile.getFlagged()) {
-                                    //         display = "X";
-                                    //     } else if (tile.getHidden()) {
-                                    //         display = "-";
-                                    //     } else {
-                                    //         Tile.TileType type = tile.getType();
-                                    //         display = switch (type) {
-                                    //             case BOMB ->    "B";
-                                    //             case ZERO ->    "0";
-                                    //             case ONE ->     "1";
-                                    //             case TWO ->     "2";
-                                    //             case THREE ->   "3";
-                                    //             case FOUR ->    "4";
-                                    //             case FIVE ->    "5";
-                                    //             case SIX ->     "6";
-                                    //             case SEVEN ->   "7";
-                                    //             case EIGHT ->   "8";
-                                    //             default ->      "?";
-                                    //         };
-                                    //     }
-                                    //     gameButtons[pos[0]][pos[1]].setText(display);
-                                    // }
                                 } else {
                                     // Call startGame at row and col of button
                                     try {
@@ -150,39 +166,6 @@ public class GUIPlayer extends JComponent implements Runnable {
                                         "startGame Error!", JOptionPane.ERROR_MESSAGE);
                                     }
                                 }
-
-                                // Create a display text for all buttons
-                                int rows = game.getRows();
-                                int cols = game.getCols();
-                                for (int r = 0; r < rows; r++) {
-                                    for (int c = 0; c < cols; c++) {
-                                        String display = "?";
-                                        Tile tile = game.getTile(r, c);
-                                        if (tile.getFlagged()) {
-                                            display = "X";
-                                            gameButtons[r][c].setEnabled(false);
-                                        } else if (tile.getHidden()) {
-                                            display = "-";
-                                        } else {
-                                            Tile.TileType type = tile.getType();
-                                            display = switch (type) {
-                                                case BOMB ->    "B";
-                                                case ZERO ->    "0";
-                                                case ONE ->     "1";
-                                                case TWO ->     "2";
-                                                case THREE ->   "3";
-                                                case FOUR ->    "4";
-                                                case FIVE ->    "5";
-                                                case SIX ->     "6";
-                                                case SEVEN ->   "7";
-                                                case EIGHT ->   "8";
-                                                default ->      "?";
-                                            };
-                                            gameButtons[r][c].setEnabled(false);
-                                        }
-                                        gameButtons[r][c].setText(display);
-                                    }
-                                }
                             }
                         });
 
@@ -1,6 +1,9 @@
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.math.*;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Java Minesweeper - Game
@@ -8,20 +11,32 @@ import java.util.Objects;
  * A class that runs a Minesweeper game
  * 
  * @author Yohan Berg
- * @version January 4, 2021
+ * @version October 19, 2026
  */
 public class Game {
 
-    private Tile[][] board; // The board of the minesweeper game. Tile[cols][rows]
+    public static final int MOVE_REVEAL = 0; // Reveals a tile in applyMoves.
+    public static final int MOVE_FLAG = 1; // Flags a tile in applyMoves.
+    public static final int MOVE_UNFLAG = 2; // Unflags a tile in applyMoves.
+    public static final int MOVE_CHORD = 3; // Reveals the neighbors of a satisfied number tile in applyMoves.
+
+    private byte[] states; // The state of every tile, indexed by cell. See Tile and Topology.
+    private Topology topology; // The neighbors of every tile.
+    private int[] revealStack; // The cells still to be revealed by revealCell.
+    private BoardLayout layout; // The bombs and numbers of the board. Null before the game starts, unless pooled.
     private Long startTime; // The start time of the game.
     private Long endTime; // The current time or end time of the game.
     private int numBombs; // The number of bombs in the game.
     private int hiddenBombs; // The number of unflagged bombs in the game.
     private int rows; // The number of rows in the game board.
     private int cols; // The number of columns in the game board.
+    private int hiddenSafe; // The number of non-bomb tiles that are still hidden.
+    private boolean lost; // Whether or not a bomb has been revealed.
+    private ChangeBuffer changes; // The change buffer reused by applyMoves.
+    private ArrayList<GameListener> listeners; // The listeners notified of changes to the game.
 
     /**
-     * Initializes a game of minesweeper.
+     * Initializes a game of minesweeper on a square grid.
      * 
      * @param rows - The number of rows in this minesweeper board.
      * @param cols - The number of columns in this minesweeper board.
@@ -29,23 +44,76 @@ public class Game {
      * @throws ImpossibleBoardException - When the board can not be made with the given parameters.
      */
     public Game(int rows, int cols, int numBombs) throws ImpossibleBoardException {
+        this(rows, cols, numBombs, null);
+    }
+
+    /**
+     * Initializes a game of minesweeper on a square grid, using a pre-generated layout from the pool if one is ready.
+     * With a pooled layout, starting the game only moves the bombs out of the starting area.
+     * 
+     * @param rows - The number of rows in this minesweeper board.
+     * @param cols - The number of columns in this minesweeper board.
+     * @param numBombs - The number of boms in this minesweeper board.
+     * @param pool - The pool to take the layout from, or <code>null</code> to generate it when the game starts.
+     * @throws ImpossibleBoardException - When the board can not be made with the given parameters.
+     */
+    public Game(int rows, int cols, int numBombs, BoardPool pool) throws ImpossibleBoardException {
         if (rows * cols - 9 < numBombs) 
             throw new ImpossibleBoardException("Not enough tiles to support the given number of bombs");
         if (numBombs < 0) throw new ImpossibleBoardException("Number of bombs can't be less than 0");
         if (rows < 1) throw new ImpossibleBoardException("Rows can't be less than 1");
         if (cols < 1) throw new ImpossibleBoardException("Columns can't be less than 1");
 
-        this.rows = rows;
-        this.cols = cols;
-        this.board = new Tile[cols][rows];
+        BoardLayout pooled = Objects.isNull(pool) ? null : pool.take(rows, cols, numBombs);
+        if (Objects.isNull(pooled)) {
+            init(new SquareTopology(rows, cols), numBombs);
+        } else {
+            init(pooled.getTopology(), numBombs);
+            layout = pooled;
+        }
+    }
+
+    /**
+     * Initializes a game of minesweeper on the given topology, such as a torus or a hexagonal grid.
+     * 
+     * @param topology - The topology of this minesweeper board.
+     * @param numBombs - The number of boms in this minesweeper board.
+     * @throws ImpossibleBoardException - When the board can not be made with the given parameters.
+     */
+    public Game(Topology topology, int numBombs) throws ImpossibleBoardException {
+        if (topology.getCells() - topology.getMaxSafeArea() < numBombs) 
+            throw new ImpossibleBoardException("Not enough tiles to support the given number of bombs");
+        if (numBombs < 0) throw new ImpossibleBoardException("Number of bombs can't be less than 0");
+
+        init(topology, numBombs);
+    }
+
+    /**
+     * Sets up the fields of a new game.
+     * 
+     * @param topology - The topology of this minesweeper board.
+     * @param numBombs - The number of boms in this minesweeper board.
+     */
+    private void init(Topology topology, int numBombs) {
+        this.topology = topology;
+        this.rows = topology.getRows();
+        this.cols = topology.getCols();
+        this.states = new byte[rows * cols];
+        this.revealStack = new int[64];
+        this.layout = null;
         this.startTime = null;
         this.endTime = null;
         this.numBombs = numBombs;
         this.hiddenBombs = 0;
+        this.hiddenSafe = rows * cols - numBombs;
+        this.lost = false;
+        this.changes = new ChangeBuffer();
+        this.listeners = new ArrayList<GameListener>();
     }
 
     /**
      * Populates the board with tiles. The tiles neighboring the starting position will not contain bombs.
+     * If the layout was taken from a pool, only the bombs in the starting area are moved.
      * 
      * @param row - The row of the starting position
      * @param col - The column of the starting position
@@ -54,55 +122,17 @@ public class Game {
     private void createBoard(int row, int col) throws IndexOutOfBoundsException {
         if (col < 0 || col >= cols) throw new IndexOutOfBoundsException("col is out of bounds!");
         if (row < 0 || row >= rows) throw new IndexOutOfBoundsException("row is out of bounds!");
+        int start = topology.cell(row, col);
+        hiddenBombs = numBombs;
 
-        // Places bombs at random locations.
-        for (hiddenBombs = 0; hiddenBombs < numBombs; hiddenBombs++) {
-            int r = -1;
-            int c = -1;
-
-            do {
-                r = (int) Math.floor(Math.random() * rows);
-                c = (int) Math.floor(Math.random() * cols);
-                // redo if tile is not null, or if it is neighboring the starting tile.
-            } while (!Objects.isNull(board[c][r]) || ((c <= col + 1 && c >= col - 1) && (r <= row + 1 && r >= row - 1)));
-
-            board[c][r] = new Tile(Tile.TileType.BOMB);
+        if (Objects.isNull(layout)) {
+            // Places bombs at random locations and counts the bombs around every tile.
+            layout = BoardLayout.generate(topology, numBombs, new SplittableRandom(), start);
+            return;
         }
 
-        for (int c = 0; c < cols; c++) {
-            for (int r = 0; r < rows; r++) {
-                // Prevents overwriting existing tiles
-                if (!Objects.isNull(board[c][r])) continue;
-
-                // Calculates how many tiles neighboring the pos are bombs.
-                int adjBombs = 0;
-                for (int i = -1; i <= 1; i++) {
-                    for (int j = -1; j <= 1; j++) {
-                        try {
-                            if (board[c + i][r + j].getType().equals(Tile.TileType.BOMB)) adjBombs++;
-                        } catch (IndexOutOfBoundsException e) {
-                            continue;
-                        } catch (NullPointerException e) {
-                            continue;
-                        }
-                    }
-                }
-
-                // Sets the tile at the pos based on how many neighbor bombs there are.
-                board[c][r] = new Tile(switch (adjBombs) {
-                    case 0 -> Tile.TileType.ZERO;
-                    case 1 -> Tile.TileType.ONE;
-                    case 2 -> Tile.TileType.TWO;
-                    case 3 -> Tile.TileType.THREE;
-                    case 4 -> Tile.TileType.FOUR;
-                    case 5 -> Tile.TileType.FIVE;
-                    case 6 -> Tile.TileType.SIX;
-                    case 7 -> Tile.TileType.SEVEN;
-                    case 8 -> Tile.TileType.EIGHT;
-                    default -> Tile.TileType.ZERO;
-                });
-            }
-        }
+        // Moves the bombs out of the starting area. Tiles are views of the layout, so none have to be replaced.
+        layout.clearArea(start, new SplittableRandom(), new int[9]);
     }
 
     /**
@@ -113,9 +143,24 @@ public class Game {
      * @throws IndexOutOfBoundsException When the starting position is out of bounds on the board.
      */
     public void startGame(int row, int col) throws IndexOutOfBoundsException {
+        startGame(row, col, false);
+    }
+
+    /**
+     * Starts the game with the given starting position, optionally opening the starting region with
+     * {@link #revealTileParallel(int, int)}. A first click on a very large board can open most of it.
+     * 
+     * @param row - The row of the starting position
+     * @param col - The column of the starting position
+     * @param parallel - Whether or not to open the starting region in parallel
+     * @throws IndexOutOfBoundsException When the starting position is out of bounds on the board.
+     */
+    public void startGame(int row, int col, boolean parallel) throws IndexOutOfBoundsException {
         createBoard(row, col);
         startTime = System.currentTimeMillis();
-        revealTile(row, col);
+        for (GameListener listener : listeners) listener.timerStarted();
+        if (parallel) revealTileParallel(row, col);
+        else revealTile(row, col);
     }
 
     /**
@@ -131,100 +176,324 @@ public class Game {
 
     /**
      * Reveals the selected tile. If the tile is a zero, then reveals all the neighbor tiles recursively.
-     * Returns an empty ArrayList if the tile is out of bounds or is already revealed.
+     * Does nothing if the tile is out of bounds or is already revealed, or if the game is lost.
      * 
      * @param row - The row of the tile to be revealed
      * @param col - The column of the tile to be revealed
-     * @return An ArrayList of the positions of all revealed tiles.
+     * @param changes - The buffer the positions of all revealed tiles are added to.
      */
-    private ArrayList<int[]> revealTileRecursive(int row, int col) {
+    private void revealTile(int row, int col, ChangeBuffer changes) {
         // Checks if the tile can be revealed.
-        if (col < 0 || col >= cols || row < 0 || row >= rows) return new ArrayList<int[]>();
-        if (board[col][row].isRevealed()) return new ArrayList<int[]>();
+        if (lost || col < 0 || col >= cols || row < 0 || row >= rows) return;
+        revealCell(topology.cell(row, col), changes);
+    }
 
-        // If the tile is a bomb, game over.
-        if (board[col][row].getType().equals(Tile.TileType.BOMB)) {
-            return gameOver();
-        }
+    /**
+     * Reveals the tile of the given cell. If the tile is a zero, then reveals all the neighbor tiles, using
+     * revealStack instead of recursion. Does nothing if the tile is already revealed.
+     * 
+     * @param start - The cell of the tile to be revealed
+     * @param changes - The buffer the positions of all revealed tiles are added to.
+     */
+    private void revealCell(int start, ChangeBuffer changes) {
+        int size = 0;
+        revealStack[size++] = start;
 
-        // Reveals the tile and saves its position.
-        board[col][row].reveal();
-        int[] pos = {row, col};
-        
-        // If the tile is a ZERO, reveal the neighboring tiles. Otherwise just return the position.
-        if (board[col][row].getType().equals(Tile.TileType.ZERO)) {
-            ArrayList<int[]> arr = new ArrayList<int[]>();
-            arr.addAll(revealTile(row - 1, col - 1));
-            arr.addAll(revealTile(row    , col - 1));
-            arr.addAll(revealTile(row + 1, col - 1));
-            arr.addAll(revealTile(row - 1, col    ));
-            arr.addAll(revealTile(row + 1, col    ));
-            arr.addAll(revealTile(row - 1, col + 1));
-            arr.addAll(revealTile(row    , col + 1));
-            arr.addAll(revealTile(row + 1, col + 1));
-            return arr;
-        } else {
-            ArrayList<int[]> arr = new ArrayList<int[]>();
-            arr.add(pos);
-            return arr;
+        while (size > 0) {
+            int cell = revealStack[--size];
+            if (states[cell] == Tile.REVEALED) continue;
+
+            // If the tile is a bomb, game over. Only the starting tile can be a bomb, as ZERO tiles have none around.
+            if (layout.isBomb(cell)) {
+                gameOver(changes);
+                return;
+            }
+
+            // Reveals the tile and saves its position.
+            states[cell] = Tile.REVEALED;
+            hiddenSafe--;
+            int col = topology.getCol(cell);
+            changes.add(ChangeBuffer.REVEALED, cell - col * rows, col);
+
+            // If the tile is a ZERO, reveal the neighboring tiles.
+            if (layout.get(cell) == 0) {
+                if (size + 8 > revealStack.length) revealStack = Arrays.copyOf(revealStack, revealStack.length * 2);
+                for (int i = topology.firstNeighbor(cell), end = topology.endNeighbor(cell); i < end; i++) {
+                    int neighbor = topology.neighbor(cell, i);
+                    if (states[neighbor] != Tile.REVEALED) revealStack[size++] = neighbor;
+                }
+            }
         }
     }
 
     /**
      * Reveals the selected tile. If the tile is a zero, then reveals all the neighbor tiles recursively.
-     * Returns an empty ArrayList if the tile is out of bounds or is already revealed.
+     * Returns an empty ArrayList if the game has not been started, or if the tile is out of bounds or is already
+     * revealed. The first tile is revealed by {@link #startGame(int, int)}.
      * 
      * @param row - The row of the tile to be revealed
      * @param col - The column of the tile to be revealed
      * @return An ArrayList of the positions of all revealed tiles.
      */
     public ArrayList<int[]> revealTile(int row, int col) {
-        ArrayList<int[]> toReturn = revealTileRecursive(row, col);
-        if (checkWin()) {
-            endTime = System.currentTimeMillis();
+        if (!isStarted()) return new ArrayList<int[]>();
+        boolean wasEnded = !Objects.isNull(endTime);
+        ChangeBuffer changes = new ChangeBuffer();
+        revealTile(row, col, changes);
+        fireCellsRevealed(changes, 0);
+        finishMove(wasEnded);
+        return changes.toPositions(0);
+    }
+
+    /**
+     * Reveals the selected tile like {@link #revealTile(int, int)}, but expands a ZERO tile's region across the
+     * fork/join common pool. Reveals the same tiles as the sequential reveal and is meant for very large boards.
+     * The positions of the revealed tiles are only passed to the listeners, in the buffers the workers wrote them to,
+     * one round of the fill at a time. Does nothing before the game is started; use
+     * {@link #startGame(int, int, boolean)} to open the first region in parallel.
+     *
+     * @param row - The row of the tile to be revealed
+     * @param col - The column of the tile to be revealed
+     * @return The number of revealed tiles.
+     */
+    public int revealTileParallel(int row, int col) {
+        if (!isStarted() || lost || col < 0 || col >= cols || row < 0 || row >= rows) return 0;
+        int cell = topology.cell(row, col);
+        if (states[cell] == Tile.REVEALED) return 0;
+        if (layout.get(cell) != 0) return revealTile(row, col).size();
+
+        boolean wasEnded = !Objects.isNull(endTime);
+        int revealed = new ParallelFloodFill(topology, layout, states)
+            .fill(cell, ForkJoinPool.commonPool(), buffer -> fireCellsRevealed(buffer, 0));
+        hiddenSafe -= revealed;
+        finishMove(wasEnded);
+        return revealed;
+    }
+
+    /**
+     * Reveals the hidden, unflagged neighbors of a revealed number tile when it has as many flagged neighbors as its
+     * number. Does nothing otherwise.
+     *
+     * @param row - The row of the number tile
+     * @param col - The column of the number tile
+     * @param changes - The buffer the positions of all revealed tiles are added to.
+     */
+    private void chordTile(int row, int col, ChangeBuffer changes) {
+        if (lost || col < 0 || col >= cols || row < 0 || row >= rows) return;
+        int cell = topology.cell(row, col);
+        if (states[cell] != Tile.REVEALED || layout.get(cell) == 0 || layout.isBomb(cell)) return;
+
+        int flagged = 0;
+        for (int i = topology.firstNeighbor(cell), end = topology.endNeighbor(cell); i < end; i++) {
+            if (states[topology.neighbor(cell, i)] == Tile.FLAGGED) flagged++;
+        }
+        if (flagged != layout.get(cell)) return;
+
+        // Stops at the first bomb, as the game is then lost.
+        for (int i = topology.firstNeighbor(cell), end = topology.endNeighbor(cell); i < end && !lost; i++) {
+            int neighbor = topology.neighbor(cell, i);
+            if (states[neighbor] != Tile.FLAGGED) revealCell(neighbor, changes);
+        }
+    }
+
+    /**
+     * Applies a sequence of moves and evaluates the win and loss conditions once at the end. Each move is stored as
+     * three ints {move, row, col}, where move is one of MOVE_REVEAL, MOVE_FLAG, MOVE_UNFLAG or MOVE_CHORD.
+     * A reveal starts the game if it has not been started. Moves on positions outside of the board are skipped, and
+     * moves after the game has ended are ignored. The moves are checked before any of them is applied, so a batch
+     * that throws changes nothing.
+     *
+     * @param moves - The moves to apply, as {move, row, col} triples.
+     * @return The changes made by the moves. The buffer is reused and is overwritten by the next call.
+     * @throws IllegalArgumentException When the length of moves is not a multiple of 3, or a move is not one of the
+     * MOVE constants.
+     */
+    public ChangeBuffer applyMoves(int[] moves) throws IllegalArgumentException {
+        if (moves.length % 3 != 0) throw new IllegalArgumentException("moves must be {move, row, col} triples");
+        for (int i = 0; i < moves.length; i += 3) {
+            if (moves[i] < MOVE_REVEAL || moves[i] > MOVE_CHORD) {
+                throw new IllegalArgumentException("Unknown move " + moves[i]);
+            }
+        }
+
+        boolean wasEnded = !Objects.isNull(endTime);
+        changes.clear();
+        for (int i = 0; i < moves.length && Objects.isNull(endTime); i += 3) {
+            int row = moves[i + 1];
+            int col = moves[i + 2];
+            int from = changes.size();
+            if (!inBounds(row, col)) continue;
+            switch (moves[i]) {
+                case MOVE_REVEAL:
+                    if (!isStarted()) {
+                        createBoard(row, col);
+                        startTime = System.currentTimeMillis();
+                        for (GameListener listener : listeners) listener.timerStarted();
+                    }
+                    revealTile(row, col, changes);
+                    fireCellsRevealed(changes, from);
+                    break;
+                case MOVE_FLAG:
+                    if (isStarted() && flagCell(topology.cell(row, col))) {
+                        changes.add(ChangeBuffer.FLAGGED, row, col);
+                        for (GameListener listener : listeners) listener.flagChanged(row, col, true);
+                    }
+                    break;
+                case MOVE_UNFLAG:
+                    if (isStarted() && unflagCell(topology.cell(row, col))) {
+                        changes.add(ChangeBuffer.UNFLAGGED, row, col);
+                        for (GameListener listener : listeners) listener.flagChanged(row, col, false);
+                    }
+                    break;
+                case MOVE_CHORD:
+                    if (isStarted()) chordTile(row, col, changes);
+                    fireCellsRevealed(changes, from);
+                    break;
+            }
+            // Stops at the first win, same as applying the moves one at a time.
+            if (hiddenSafe == 0) break;
         }
-        return toReturn;
+        finishMove(wasEnded);
+        return changes;
     }
 
     /**
-     * Attempts to flag the tile at the specified position. Cannot flag revealed tiles.
+     * Returns whether or not a position is on the board.
+     * 
+     * @param row - The row of the position
+     * @param col - The column of the position
+     * @return <code>true</code> if the position is on the board
+     */
+    private boolean inBounds(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    /**
+     * Attempts to flag the tile at the specified position. Cannot flag revealed tiles. Does nothing if the game has
+     * not been started or the position is out of bounds.
      * 
      * @param row - The row of the tile to be flagged
      * @param col - The column of the tile to be flagged
      */
     public void flagTile(int row, int col) {
-        board[col][row].flag();
+        if (!isStarted() || !inBounds(row, col) || !flagCell(topology.cell(row, col))) return;
+        for (GameListener listener : listeners) listener.flagChanged(row, col, true);
     }
 
     /**
-     * Attempts to unflag the tile at the specified position.
+     * Attempts to unflag the tile at the specified position. Does nothing if the game has not been started or the
+     * position is out of bounds.
      * 
      * @param row - The row of the tile to be unflagged
      * @param col - The column of the tile to be unflagged
      */
     public void unflagTile(int row, int col) {
-        board[col][row].unFlag();
+        if (!isStarted() || !inBounds(row, col) || !unflagCell(topology.cell(row, col))) return;
+        for (GameListener listener : listeners) listener.flagChanged(row, col, false);
     }
 
     /**
-     * Ends the game by revealing all bomb tiles and setting endTime.
+     * Flags a hidden, unflagged cell.
+     * 
+     * @param cell - The cell to flag
+     * @return <code>true</code> if the cell was flagged by this call
+     */
+    private boolean flagCell(int cell) {
+        if (states[cell] != Tile.HIDDEN) return false;
+        states[cell] = Tile.FLAGGED;
+        return true;
+    }
+
+    /**
+     * Unflags a flagged cell.
+     * 
+     * @param cell - The cell to unflag
+     * @return <code>true</code> if the cell was unflagged by this call
+     */
+    private boolean unflagCell(int cell) {
+        if (states[cell] != Tile.FLAGGED) return false;
+        states[cell] = Tile.HIDDEN;
+        return true;
+    }
+
+    /**
+     * Ends the game by revealing all bomb tiles and setting endTime. Does nothing if the game has not been started.
      * 
      * @return An ArrayList of all bomb positions.
      */
     public ArrayList<int[]> gameOver() {
-        
+        if (!isStarted()) return new ArrayList<int[]>();
+        boolean wasEnded = !Objects.isNull(endTime);
+        ChangeBuffer changes = new ChangeBuffer();
+        gameOver(changes);
+        fireCellsRevealed(changes, 0);
+        finishMove(wasEnded);
+        return changes.toPositions(0);
+    }
+
+    /**
+     * Ends the game by revealing all bomb tiles and setting endTime.
+     * 
+     * @param changes - The buffer the positions of all bombs are added to.
+     */
+    private void gameOver(ChangeBuffer changes) {
         endTime = System.currentTimeMillis();
-        ArrayList<int[]> arr = new ArrayList<int[]>();
-        for (int c = 0; c < cols; c++) {
-            for (int r = 0; r < rows; r++) {
-                if (board[c][r].getType().equals(Tile.TileType.BOMB)) {
-                    board[c][r].reveal();
-                    int[] pos = {r, c};
-                    arr.add(pos);
+        lost = true;
+        for (int c = 0, cell = 0; c < cols; c++) {
+            for (int r = 0; r < rows; r++, cell++) {
+                if (layout.isBomb(cell)) {
+                    states[cell] = Tile.REVEALED;
+                    changes.add(ChangeBuffer.REVEALED, r, c);
                 }
             }
         }
-        return arr;
+    }
+
+    /**
+     * Sets endTime if the game has just been won, and notifies the listeners if the game ended during this move.
+     * 
+     * @param wasEnded - Whether or not the game had already ended before this move.
+     */
+    private void finishMove(boolean wasEnded) {
+        if (Objects.isNull(endTime) && checkWin()) {
+            endTime = System.currentTimeMillis();
+        }
+        if (wasEnded || Objects.isNull(endTime)) return;
+
+        long time = getTime();
+        for (GameListener listener : listeners) {
+            if (lost) listener.gameLost(time);
+            else listener.gameWon(time);
+        }
+    }
+
+    /**
+     * Notifies the listeners of the tiles revealed from the given index to the end of the buffer, if there are any.
+     * 
+     * @param changes - The buffer holding the revealed tiles
+     * @param from - The index of the first revealed tile
+     */
+    private void fireCellsRevealed(ChangeBuffer changes, int from) {
+        if (from == changes.size()) return;
+        for (GameListener listener : listeners) listener.cellsRevealed(changes, from, changes.size());
+    }
+
+    /**
+     * Registers a listener to be notified of changes to this game.
+     * 
+     * @param listener - The listener to add
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     * 
+     * @param listener - The listener to remove
+     */
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -233,32 +502,46 @@ public class Game {
      * @return <code>true</code> if all non-bomb tiles are revealed.
      */
     public boolean checkWin() {
-        if (Objects.isNull(board[0][0])) return false;
-        for (int c = 0; c < cols; c++) {
-            for (int r = 0; r < rows; r++) {
-                // Return false if the tile is not a bomb and is not revealed.
-                if (!board[c][r].getType().equals(Tile.TileType.BOMB) && !board[c][r].isRevealed()) return false;
-            }
-        }
-        return true;
+        if (!isStarted()) return false;
+        return hiddenSafe == 0;
+    }
+
+    /**
+     * Returns whether or not a bomb has been revealed
+     * 
+     * @return <code>true</code> if the game was lost
+     */
+    public boolean isLost() {
+        return lost;
     }
 
     /**
-     * Returns the board
+     * Returns the board. The tiles are created for this call as views of the game's state, so the array is meant
+     * for displaying small boards. Its tiles are <code>null</code> before the game starts.
      * 
-     * @return the board
+     * @return the board, Tile[cols][rows]
      */
     public Tile[][] getBoard() {
+        Tile[][] board = new Tile[cols][rows];
+        if (!isStarted()) return board;
+        for (int c = 0, cell = 0; c < cols; c++) {
+            for (int r = 0; r < rows; r++, cell++) {
+                board[c][r] = new Tile(layout.getType(cell), states, cell);
+            }
+        }
         return board;
     }
 
     /**
-     * Returns the Tile at position row,col
+     * Returns the Tile at position row,col. The tile is a view of the game's state, and is <code>null</code> before
+     * the game starts.
      * 
      * @return the Tile at position row,col
      */
     public Tile getTile(int row, int col) {
-        return board[col][row];
+        if (!isStarted()) return null;
+        int cell = topology.cell(row, col);
+        return new Tile(layout.getType(cell), states, cell);
     }
 
     /**
@@ -279,6 +562,26 @@ public class Game {
         return cols;
     }
 
+    /**
+     * Returns the topology of the game board.
+     * 
+     * @return the topology of the game board.
+     */
+    public Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Returns the layout of the game board. Returns <code>null</code> if the game has not been started.
+     * 
+     * @return the layout of the game board or <code>null</code>
+     */
+    public BoardLayout getLayout() {
+        // A pooled layout is set before the game starts, but like the tiles it is hidden until then.
+        if (!isStarted()) return null;
+        return layout;
+    }
+
     /**
      * Returns total bombs - flagged tiles and total bombs
      * 
@@ -287,10 +590,8 @@ public class Game {
     public int[] getBombInfo() {
         if (Objects.isNull(startTime)) return new int[]{numBombs, numBombs};
         int totalFlagged = 0;
-        for (Tile[] tiles : board) {
-            for (Tile tile : tiles) {
-                if (tile.getFlagged()) totalFlagged++;
-            }
+        for (byte state : states) {
+            if (state == Tile.FLAGGED) totalFlagged++;
         }
         int[] returnArr = {numBombs - totalFlagged, numBombs};
         return returnArr;
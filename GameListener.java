@@ -0,0 +1,54 @@
+/**
+ * Java Minesweeper - GameListener
+ *
+ * A listener that is notified of changes to a Minesweeper game, so a front-end can update only what changed.
+ * All methods do nothing by default.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public interface GameListener {
+
+    /**
+     * Called when the first tile is revealed and the timer starts.
+     */
+    default void timerStarted() {
+    }
+
+    /**
+     * Called when tiles are revealed. The revealed tiles are the changes from index <code>from</code> up to but not
+     * including <code>to</code>, all of kind REVEALED. The buffer is reused and is only valid during this call.
+     *
+     * @param changes - The buffer holding the revealed tiles
+     * @param from - The index of the first revealed tile
+     * @param to - The index after the last revealed tile
+     */
+    default void cellsRevealed(ChangeBuffer changes, int from, int to) {
+    }
+
+    /**
+     * Called when a tile is flagged or unflagged.
+     *
+     * @param row - The row of the tile
+     * @param col - The column of the tile
+     * @param flagged - Whether or not the tile is now flagged
+     */
+    default void flagChanged(int row, int col, boolean flagged) {
+    }
+
+    /**
+     * Called when all non-bomb tiles have been revealed.
+     *
+     * @param time - The final time in milliseconds
+     */
+    default void gameWon(long time) {
+    }
+
+    /**
+     * Called when a bomb is revealed.
+     *
+     * @param time - The final time in milliseconds
+     */
+    default void gameLost(long time) {
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Java Minesweeper - HexTopology
+ *
+ * A hexagonal grid where each tile neighbors up to 6 tiles. Odd rows are shifted half a tile to the right.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class HexTopology extends Topology {
+
+    /**
+     * Creates a hexagonal grid of the given size.
+     *
+     * @param rows - The number of rows in the board.
+     * @param cols - The number of columns in the board.
+     * @throws IllegalArgumentException When the board has less than one row or column.
+     */
+    public HexTopology(int rows, int cols) throws IllegalArgumentException {
+        super(rows, cols);
+        build();
+    }
+
+    @Override
+    protected int classify(int row, int col) {
+        // Even and odd rows have different diagonal neighbors.
+        return (row == 0 ? 1 : 0) | (row == rows - 1 ? 2 : 0) | (col == 0 ? 4 : 0) | (col == cols - 1 ? 8 : 0)
+            | (row % 2) << 4;
+    }
+
+    @Override
+    protected int neighbors(int row, int col, int[] out) {
+        // The columns of the tiles above and below are col - 1 and col on even rows, col and col + 1 on odd rows.
+        int left = col - 1 + row % 2;
+        int count = 0;
+        if (col > 0) out[count++] = (col - 1) * rows + row;
+        if (col < cols - 1) out[count++] = (col + 1) * rows + row;
+        for (int r = row - 1; r <= row + 1; r += 2) {
+            if (r < 0 || r >= rows) continue;
+            if (left >= 0) out[count++] = left * rows + r;
+            if (left + 1 < cols) out[count++] = (left + 1) * rows + r;
+        }
+        return count;
+    }
+}
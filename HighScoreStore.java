@@ -0,0 +1,368 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Java Minesweeper - HighScoreStore
+ *
+ * A leaderboard of winning times, kept per board configuration (rows, columns and bombs).
+ *
+ * Every submitted time is appended to a log file as a fixed-size record {rows, cols, bombs, time}, so the file is
+ * never rewritten. On startup the log is read once and each configuration's times are sorted and built into an
+ * order-statistic treap, which answers top-k and rank queries in O(log n).
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class HighScoreStore implements Closeable {
+
+    private static final int RECORD_SIZE = 20; // The size of a record in bytes: three ints and a long.
+
+    private final Map<Config, ScoreTree> scores; // The times of every configuration.
+    private final DataOutputStream log; // The log the records are appended to.
+
+    /**
+     * Opens the store kept in the given file, creating the file if it does not exist.
+     * A partial record left at the end of the file by an interrupted write is discarded.
+     *
+     * @param file - The log file of the store
+     * @throws IOException When the file can not be read or written.
+     */
+    public HighScoreStore(File file) throws IOException {
+        this.scores = new HashMap<Config, ScoreTree>();
+
+        // Cuts off a partial record so that new records stay aligned.
+        long records = file.length() / RECORD_SIZE;
+        if (file.length() % RECORD_SIZE != 0) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(records * RECORD_SIZE);
+            }
+        }
+
+        // Collects the times of every configuration, then builds each tree from its sorted times.
+        HashMap<Config, TimeList> times = new HashMap<Config, TimeList>();
+        if (records > 0) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16))) {
+                for (long i = 0; i < records; i++) {
+                    Config config = new Config(in.readInt(), in.readInt(), in.readInt());
+                    long time = in.readLong();
+
+                    TimeList list = times.get(config);
+                    if (list == null) {
+                        list = new TimeList();
+                        times.put(config, list);
+                    }
+                    list.add(time);
+                }
+            } catch (EOFException e) {
+                throw new IOException("High score log ended early", e);
+            }
+        }
+        for (Map.Entry<Config, TimeList> entry : times.entrySet()) {
+            long[] sorted = Arrays.copyOf(entry.getValue().times, entry.getValue().count);
+            Arrays.sort(sorted);
+            scores.put(entry.getKey(), new ScoreTree(sorted));
+        }
+
+        this.log = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+    }
+
+    /**
+     * Records a winning time and writes it to the log.
+     *
+     * @param rows - The number of rows of the board
+     * @param cols - The number of columns of the board
+     * @param numBombs - The number of bombs on the board
+     * @param time - The winning time in milliseconds
+     * @return the rank of the time among all times of the configuration, starting at 1.
+     * @throws IOException When the record can not be written.
+     */
+    public synchronized int submit(int rows, int cols, int numBombs, long time) throws IOException {
+        log.writeInt(rows);
+        log.writeInt(cols);
+        log.writeInt(numBombs);
+        log.writeLong(time);
+        log.flush();
+
+        Config config = new Config(rows, cols, numBombs);
+        ScoreTree tree = scores.get(config);
+        if (tree == null) {
+            tree = new ScoreTree(new long[0]);
+            scores.put(config, tree);
+        }
+        tree.insert(time);
+        return tree.rank(time);
+    }
+
+    /**
+     * Returns the best times of a configuration, fastest first.
+     *
+     * @param rows - The number of rows of the board
+     * @param cols - The number of columns of the board
+     * @param numBombs - The number of bombs on the board
+     * @param k - The maximum number of times to return
+     * @return up to k of the best times in milliseconds
+     */
+    public synchronized long[] top(int rows, int cols, int numBombs, int k) {
+        ScoreTree tree = scores.get(new Config(rows, cols, numBombs));
+        if (tree == null) return new long[0];
+        return tree.top(k);
+    }
+
+    /**
+     * Returns the rank a time has or would have among the times of a configuration. Equal times share a rank.
+     *
+     * @param rows - The number of rows of the board
+     * @param cols - The number of columns of the board
+     * @param numBombs - The number of bombs on the board
+     * @param time - The time in milliseconds
+     * @return 1 plus the number of faster times
+     */
+    public synchronized int rank(int rows, int cols, int numBombs, long time) {
+        ScoreTree tree = scores.get(new Config(rows, cols, numBombs));
+        if (tree == null) return 1;
+        return tree.rank(time);
+    }
+
+    /**
+     * Returns the number of times recorded for a configuration.
+     *
+     * @param rows - The number of rows of the board
+     * @param cols - The number of columns of the board
+     * @param numBombs - The number of bombs on the board
+     * @return the number of recorded times
+     */
+    public synchronized int count(int rows, int cols, int numBombs) {
+        ScoreTree tree = scores.get(new Config(rows, cols, numBombs));
+        if (tree == null) return 0;
+        return tree.count;
+    }
+
+    /**
+     * Closes the log file.
+     *
+     * @throws IOException When the log can not be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        log.close();
+    }
+
+    /**
+     * A board configuration, used as the key of the leaderboards.
+     */
+    private static class Config {
+
+        private final int rows; // The number of rows of the board.
+        private final int cols; // The number of columns of the board.
+        private final int numBombs; // The number of bombs on the board.
+
+        Config(int rows, int cols, int numBombs) {
+            this.rows = rows;
+            this.cols = cols;
+            this.numBombs = numBombs;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Config)) return false;
+            Config other = (Config) o;
+            return rows == other.rows && cols == other.cols && numBombs == other.numBombs;
+        }
+
+        @Override
+        public int hashCode() {
+            return (rows * 31 + cols) * 31 + numBombs;
+        }
+    }
+
+    /**
+     * A growable list of times, used while reading the log.
+     */
+    private static class TimeList {
+
+        private long[] times = new long[16]; // The times read so far.
+        private int count = 0; // The number of times read so far.
+
+        void add(long time) {
+            if (count == times.length) times = Arrays.copyOf(times, count * 2);
+            times[count++] = time;
+        }
+    }
+
+    /**
+     * A treap of times stored in parallel arrays, where each node also stores the size of its subtree.
+     * Nodes are ordered by time and heap-ordered by a random priority, keeping the tree balanced in expectation.
+     */
+    private static class ScoreTree {
+
+        private long[] time; // The time of every node.
+        private int[] priority; // The random priority of every node.
+        private int[] left; // The left child of every node, or -1.
+        private int[] right; // The right child of every node, or -1.
+        private int[] size; // The number of nodes in the subtree of every node.
+        private int count; // The number of nodes.
+        private int root; // The root node, or -1 if the tree is empty.
+        private final SplittableRandom random; // The source of the priorities.
+
+        /**
+         * Builds a tree from sorted times in O(n), as a Cartesian tree over random priorities.
+         *
+         * @param sorted - The times in ascending order
+         */
+        ScoreTree(long[] sorted) {
+            int capacity = Math.max(16, sorted.length);
+            this.time = new long[capacity];
+            this.priority = new int[capacity];
+            this.left = new int[capacity];
+            this.right = new int[capacity];
+            this.size = new int[capacity];
+            this.random = new SplittableRandom();
+            this.count = sorted.length;
+            this.root = -1;
+
+            // The stack holds the right spine of the tree built so far.
+            int[] stack = new int[sorted.length];
+            int top = -1;
+            for (int i = 0; i < sorted.length; i++) {
+                time[i] = sorted[i];
+                priority[i] = random.nextInt();
+                left[i] = -1;
+                right[i] = -1;
+
+                int last = -1;
+                while (top >= 0 && priority[stack[top]] < priority[i]) last = stack[top--];
+                left[i] = last;
+                if (top >= 0) right[stack[top]] = i;
+                stack[++top] = i;
+            }
+            if (top >= 0) {
+                root = stack[0];
+                computeSize(root);
+            }
+        }
+
+        private int computeSize(int node) {
+            if (node == -1) return 0;
+            size[node] = 1 + computeSize(left[node]) + computeSize(right[node]);
+            return size[node];
+        }
+
+        private int sizeOf(int node) {
+            return node == -1 ? 0 : size[node];
+        }
+
+        /**
+         * Adds a time to the tree in O(log n).
+         *
+         * @param t - The time to add
+         */
+        void insert(long t) {
+            if (count == time.length) {
+                int capacity = count * 2;
+                time = Arrays.copyOf(time, capacity);
+                priority = Arrays.copyOf(priority, capacity);
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+                size = Arrays.copyOf(size, capacity);
+            }
+            int node = count++;
+            time[node] = t;
+            priority[node] = random.nextInt();
+            left[node] = -1;
+            right[node] = -1;
+            size[node] = 1;
+            root = insert(root, node);
+        }
+
+        private int insert(int node, int added) {
+            if (node == -1) return added;
+            size[node]++;
+            if (time[added] < time[node]) {
+                left[node] = insert(left[node], added);
+                if (priority[left[node]] > priority[node]) node = rotateRight(node);
+            } else {
+                right[node] = insert(right[node], added);
+                if (priority[right[node]] > priority[node]) node = rotateLeft(node);
+            }
+            return node;
+        }
+
+        private int rotateRight(int node) {
+            int child = left[node];
+            left[node] = right[child];
+            right[child] = node;
+            size[child] = size[node];
+            size[node] = 1 + sizeOf(left[node]) + sizeOf(right[node]);
+            return child;
+        }
+
+        private int rotateLeft(int node) {
+            int child = right[node];
+            right[node] = left[child];
+            left[child] = node;
+            size[child] = size[node];
+            size[node] = 1 + sizeOf(left[node]) + sizeOf(right[node]);
+            return child;
+        }
+
+        /**
+         * Returns 1 plus the number of times faster than t, in O(log n).
+         *
+         * @param t - The time to rank
+         * @return the rank of t
+         */
+        int rank(long t) {
+            int faster = 0;
+            int node = root;
+            while (node != -1) {
+                if (time[node] < t) {
+                    faster += sizeOf(left[node]) + 1;
+                    node = right[node];
+                } else {
+                    node = left[node];
+                }
+            }
+            return faster + 1;
+        }
+
+        /**
+         * Returns the k fastest times in O(log n + k).
+         *
+         * @param k - The maximum number of times to return
+         * @return up to k times in ascending order
+         */
+        long[] top(int k) {
+            long[] result = new long[Math.max(0, Math.min(k, count))];
+            int found = 0;
+            int[] stack = new int[64];
+            int depth = 0;
+            int node = root;
+
+            // An in-order walk that stops after k nodes.
+            while (found < result.length) {
+                while (node != -1) {
+                    if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+                    stack[depth++] = node;
+                    node = left[node];
+                }
+                node = stack[--depth];
+                result[found++] = time[node];
+                node = right[node];
+            }
+            return result;
+        }
+    }
+}
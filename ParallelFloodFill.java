@@ -0,0 +1,173 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Java Minesweeper - ParallelFloodFill
+ *
+ * A flood fill that reveals a region of connected ZERO tiles using fork/join workers.
+ * The fill works on the compact board only: it reads the bomb counts from the layout and writes the tile states to the
+ * board's state array, without going through Tile objects. Each cell is claimed through a bitmap before it is visited,
+ * so every tile is revealed by exactly one worker and the revealed tiles are the same as with the sequential reveal.
+ *
+ * The fill runs in rounds. Every task of a round visits a bounded number of cells from its part of the frontier, and
+ * the cells left on its stack are split into the tasks of the next round. Tasks never fork, so the nesting depth stays
+ * the same however large the region is and however few workers the pool has. The revealed positions of a round are
+ * handed to the caller's thread when the round ends and are then dropped, so they take memory for one round only.
+ *
+ * Besides the layout and the state array, the fill needs one bit per cell for its claims. The rounds are separated
+ * by a barrier on the caller's thread, which also runs the consumer of the revealed positions, so the fill scales
+ * only while the frontier is wide enough to give every worker a task and the consumer keeps up with the workers.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class ParallelFloodFill {
+
+    private static final int ROUND_BUDGET = 4096; // The number of cells a task visits before it ends its round.
+    private static final int SPLIT_SIZE = 512; // The number of frontier cells given to each task of a round.
+
+    private final Topology topology; // The neighbors of every cell.
+    private final BoardLayout layout; // The bomb counts of every cell.
+    private final byte[] states; // The state of every cell. See Tile.
+    private final AtomicLongArray claimed; // One bit per cell, set once a worker has claimed the cell.
+
+    /**
+     * Creates a flood fill over the given board.
+     *
+     * @param topology - The neighbors of every cell.
+     * @param layout - The bomb counts of every cell.
+     * @param states - The state of every cell, HIDDEN, FLAGGED or REVEALED. Revealed cells are set to REVEALED.
+     */
+    public ParallelFloodFill(Topology topology, BoardLayout layout, byte[] states) {
+        this.topology = topology;
+        this.layout = layout;
+        this.states = states;
+        this.claimed = new AtomicLongArray((states.length + 63) >>> 6);
+    }
+
+    /**
+     * Reveals the region starting at the given ZERO cell and all of its neighbors.
+     *
+     * @param start - The starting cell
+     * @param pool - The pool running the workers
+     * @param revealed - Called on the caller's thread with the positions of the tiles revealed by every task, after
+     * the task's round. The buffers wrap the arrays the tasks wrote and must not be kept.
+     * @return the number of revealed tiles
+     */
+    public int fill(int start, ForkJoinPool pool, Consumer<ChangeBuffer> revealed) {
+        claim(start);
+        int count = 0;
+        ArrayList<FillTask> round = new ArrayList<FillTask>();
+        round.add(new FillTask(new int[]{start}, 0, 1));
+
+        while (!round.isEmpty()) {
+            pool.invoke(new FillRound(round));
+
+            // Splits the stacks left by this round into the next round, without copying them here.
+            ArrayList<FillTask> next = new ArrayList<FillTask>();
+            for (FillTask task : round) {
+                if (task.foundSize > 0) {
+                    count += task.foundSize / 3;
+                    revealed.accept(new ChangeBuffer(task.found, task.foundSize / 3));
+                }
+                for (int from = 0; from < task.size; from += SPLIT_SIZE) {
+                    next.add(new FillTask(task.stack, from, Math.min(task.size, from + SPLIT_SIZE)));
+                }
+            }
+            round = next;
+        }
+        return count;
+    }
+
+    /**
+     * Atomically claims a cell.
+     *
+     * @param cell - The cell
+     * @return <code>true</code> if this call claimed the cell, <code>false</code> if it was already claimed.
+     */
+    private boolean claim(int cell) {
+        int word = cell >>> 6;
+        long bit = 1L << (cell & 63);
+        while (true) {
+            long old = claimed.get(word);
+            if ((old & bit) != 0) return false;
+            if (claimed.compareAndSet(word, old, old | bit)) return true;
+        }
+    }
+
+    /**
+     * Runs the tasks of one round in the pool.
+     */
+    @SuppressWarnings("serial")
+    private static class FillRound extends RecursiveAction {
+
+        private final ArrayList<FillTask> tasks; // The tasks of the round.
+
+        FillRound(ArrayList<FillTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * A worker that reveals the cells of its part of the frontier, pushing the claimed neighbors of ZERO cells onto
+     * its own stack, until the stack is empty or it has visited ROUND_BUDGET cells.
+     */
+    @SuppressWarnings("serial")
+    private class FillTask extends RecursiveAction {
+
+        private final int[] frontier; // The array holding this task's part of the frontier.
+        private final int from; // The index of the first frontier cell of this task.
+        private final int to; // The index after the last frontier cell of this task.
+        private int[] stack; // The claimed cells this task still has to visit.
+        private int size; // The number of cells on the stack.
+        private int[] found; // The tiles revealed by this task, as ChangeBuffer {kind, row, col} triples.
+        private int foundSize; // The number of ints used in found.
+
+        FillTask(int[] frontier, int from, int to) {
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            stack = Arrays.copyOfRange(frontier, from, from + Math.max(16, to - from));
+            size = to - from;
+            found = new int[48];
+            foundSize = 0;
+
+            for (int visited = 0; size > 0 && visited < ROUND_BUDGET; visited++) {
+                int cell = stack[--size];
+
+                // Tiles revealed before the fill started are not expanded, same as the sequential reveal.
+                if (states[cell] == Tile.REVEALED) continue;
+                states[cell] = Tile.REVEALED;
+                if (foundSize == found.length) found = Arrays.copyOf(found, foundSize * 2);
+                found[foundSize++] = ChangeBuffer.REVEALED;
+                found[foundSize++] = topology.getRow(cell);
+                found[foundSize++] = topology.getCol(cell);
+
+                if (layout.get(cell) == 0) {
+                    for (int i = topology.firstNeighbor(cell), end = topology.endNeighbor(cell); i < end; i++) {
+                        int neighbor = topology.neighbor(cell, i);
+                        if (claim(neighbor)) push(neighbor);
+                    }
+                }
+            }
+        }
+
+        private void push(int cell) {
+            if (size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+            stack[size++] = cell;
+        }
+    }
+}
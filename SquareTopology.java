@@ -0,0 +1,39 @@
+/**
+ * Java Minesweeper - SquareTopology
+ *
+ * The classic square grid, where each tile neighbors the up to 8 tiles around it.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class SquareTopology extends Topology {
+
+    /**
+     * Creates a square grid of the given size.
+     *
+     * @param rows - The number of rows in the board.
+     * @param cols - The number of columns in the board.
+     * @throws IllegalArgumentException When the board has less than one row or column.
+     */
+    public SquareTopology(int rows, int cols) throws IllegalArgumentException {
+        super(rows, cols);
+        build();
+    }
+
+    @Override
+    protected int classify(int row, int col) {
+        // Cells on the same edges or corner have the same neighbors.
+        return (row == 0 ? 1 : 0) | (row == rows - 1 ? 2 : 0) | (col == 0 ? 4 : 0) | (col == cols - 1 ? 8 : 0);
+    }
+
+    @Override
+    protected int neighbors(int row, int col, int[] out) {
+        int count = 0;
+        for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, cols - 1); c++) {
+            for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, rows - 1); r++) {
+                if (c != col || r != row) out[count++] = c * rows + r;
+            }
+        }
+        return count;
+    }
+}
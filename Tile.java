@@ -24,9 +24,13 @@ public class Tile {
         BOMB
     }
 
+    static final byte HIDDEN = 0; // The state of a hidden, unflagged tile.
+    static final byte FLAGGED = 1; // The state of a hidden, flagged tile.
+    static final byte REVEALED = 2; // The state of a revealed tile.
+
     private final TileType type; // The type of the tile
-    private boolean hidden; // Whether or not the tile is hidden
-    private boolean flagged; // Whether or not the tile is flagged
+    private final byte[] states; // The state of the tile at index cell. May be shared with the other tiles of a board.
+    private final int cell; // The index of the state of the tile in states
 
     /**
      * The conventional constructor for Tile. Sets hidden to true and flagged to false.
@@ -34,9 +38,21 @@ public class Tile {
      * @param type - The type of the tile.
      */
     public Tile(TileType type) {
+        this(type, new byte[1], 0);
+    }
+
+    /**
+     * Creates a tile whose state is kept in a state array shared by a whole board, so that the board's state can be
+     * changed without going through its tiles.
+     * 
+     * @param type - The type of the tile.
+     * @param states - The states of the board, one of HIDDEN, FLAGGED or REVEALED per cell.
+     * @param cell - The index of the state of this tile.
+     */
+    Tile(TileType type, byte[] states, int cell) {
         this.type = type;
-        this.hidden = true;
-        this.flagged = false;
+        this.states = states;
+        this.cell = cell;
     }
 
     /**
@@ -54,7 +70,7 @@ public class Tile {
      * @return whether or not the tile is hidden
      */
     public boolean getHidden() {
-        return hidden;
+        return states[cell] != REVEALED;
     }
 
     /**
@@ -63,15 +79,14 @@ public class Tile {
      * @return whether or not the tile is flagged
      */
     public boolean getFlagged() {
-        return flagged;
+        return states[cell] == FLAGGED;
     }
 
     /**
      * Sets hidden to false and flagged to false.
      */
     public void reveal() {
-        hidden = false;
-        flagged = false;
+        states[cell] = REVEALED;
     }
 
     /**
@@ -80,8 +95,8 @@ public class Tile {
      * @return whether or not the tile could be flagged and was flagged.
      */
     public boolean flag() {
-        if (hidden) {
-            this.flagged = true;
+        if (states[cell] != REVEALED) {
+            states[cell] = FLAGGED;
             return true;
         } else return false;
     }
@@ -90,7 +105,7 @@ public class Tile {
      * Sets flagged to false
      */
     public void unFlag() {
-        this.flagged = false;
+        if (states[cell] == FLAGGED) states[cell] = HIDDEN;
     }
 
     /**
@@ -99,6 +114,6 @@ public class Tile {
      * @return true if the tile is revealed.
      */
     public boolean isRevealed() {
-        return !hidden;
+        return states[cell] == REVEALED;
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+import java.util.Arrays;
+
+/**
+ * Java Minesweeper - Topology
+ *
+ * A class describing which tiles of a board neighbor each other. Cells are numbered col * rows + row.
+ *
+ * The neighbors are precomputed into a compressed (CSR-style) table. Every cell belongs to a small neighbor class,
+ * such as a corner, an edge or the interior, and all cells of a class share the same list of index offsets to their
+ * neighbors. This keeps the table at one byte per cell, and neighbor lookups need no bounds checks.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public abstract class Topology {
+
+    protected final int rows; // The number of rows in the board.
+    protected final int cols; // The number of columns in the board.
+    private byte[] cellClass; // The neighbor class of every cell.
+    private int[] classStart; // The index in classDelta of the first offset of every class, plus an end entry.
+    private int[] classDelta; // The offsets from a cell to its neighbors, grouped by class.
+
+    /**
+     * Creates a topology for a board of the given size. Subclasses must call {@link #build()} once constructed.
+     *
+     * @param rows - The number of rows in the board.
+     * @param cols - The number of columns in the board.
+     * @throws IllegalArgumentException When the board has less than one row or column.
+     */
+    protected Topology(int rows, int cols) throws IllegalArgumentException {
+        if (rows < 1 || cols < 1) throw new IllegalArgumentException("Board must have at least one row and column");
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Returns the neighbor class of the given position. All positions of a class must have their neighbors at the
+     * same index offsets. Must be between 0 and 127.
+     *
+     * @param row - The row of the position
+     * @param col - The column of the position
+     * @return the neighbor class of the position
+     */
+    protected abstract int classify(int row, int col);
+
+    /**
+     * Writes the cells neighboring the given position into out.
+     *
+     * @param row - The row of the position
+     * @param col - The column of the position
+     * @param out - The array the neighboring cells are written to. Has room for 8 cells.
+     * @return the number of cells written to out.
+     */
+    protected abstract int neighbors(int row, int col, int[] out);
+
+    /**
+     * Builds the neighbor table. Duplicate neighbors and the cell itself are left out.
+     */
+    protected final void build() {
+        int[] ids = new int[128]; // The index of every class returned by classify, or -1 if not seen yet.
+        Arrays.fill(ids, -1);
+        int[] starts = new int[129];
+        int[] deltas = new int[64];
+        int[] out = new int[8];
+        int numClasses = 0;
+        int numDeltas = 0;
+
+        cellClass = new byte[rows * cols];
+        for (int c = 0; c < cols; c++) {
+            for (int r = 0; r < rows; r++) {
+                int cell = c * rows + r;
+                int key = classify(r, c);
+
+                // The first cell of a class defines the offsets of the whole class.
+                if (ids[key] == -1) {
+                    int count = neighbors(r, c, out);
+                    for (int i = 0; i < count; i++) {
+                        int delta = out[i] - cell;
+                        boolean seen = delta == 0;
+                        for (int j = starts[numClasses]; j < numDeltas && !seen; j++) seen = deltas[j] == delta;
+                        if (seen) continue;
+
+                        if (numDeltas == deltas.length) deltas = Arrays.copyOf(deltas, numDeltas * 2);
+                        deltas[numDeltas++] = delta;
+                    }
+                    ids[key] = numClasses++;
+                    starts[numClasses] = numDeltas;
+                }
+                cellClass[cell] = (byte) ids[key];
+            }
+        }
+
+        classStart = Arrays.copyOf(starts, numClasses + 1);
+        classDelta = Arrays.copyOf(deltas, numDeltas);
+    }
+
+    /**
+     * Returns the index of the first neighbor of a cell, to be passed to {@link #neighbor(int, int)}.
+     *
+     * @param cell - The cell
+     * @return the index of the first neighbor
+     */
+    public int firstNeighbor(int cell) {
+        return classStart[cellClass[cell]];
+    }
+
+    /**
+     * Returns the index after the last neighbor of a cell.
+     *
+     * @param cell - The cell
+     * @return the index after the last neighbor
+     */
+    public int endNeighbor(int cell) {
+        return classStart[cellClass[cell] + 1];
+    }
+
+    /**
+     * Returns a neighbor of a cell. Neighbors are iterated as
+     * <code>for (int i = firstNeighbor(cell); i &lt; endNeighbor(cell); i++) neighbor(cell, i)</code>.
+     *
+     * @param cell - The cell
+     * @param index - The index of the neighbor, between firstNeighbor(cell) and endNeighbor(cell)
+     * @return the neighboring cell
+     */
+    public int neighbor(int cell, int index) {
+        return cell + classDelta[index];
+    }
+
+    /**
+     * Returns whether or not two different cells neighbor each other.
+     *
+     * @param cell - The first cell
+     * @param other - The second cell
+     * @return <code>true</code> if other is a neighbor of cell
+     */
+    public boolean isNeighbor(int cell, int other) {
+        for (int i = firstNeighbor(cell), end = endNeighbor(cell); i < end; i++) {
+            if (neighbor(cell, i) == other) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the largest number of cells in a safe area, a cell together with its neighbors, anywhere on the board.
+     *
+     * @return the size of the largest safe area
+     */
+    public int getMaxSafeArea() {
+        int max = 0;
+        for (int k = 0; k + 1 < classStart.length; k++) max = Math.max(max, 1 + classStart[k + 1] - classStart[k]);
+        return max;
+    }
+
+    /**
+     * Returns the cell at the given position.
+     *
+     * @param row - The row of the position
+     * @param col - The column of the position
+     * @return the cell at the position
+     */
+    public int cell(int row, int col) {
+        return col * rows + row;
+    }
+
+    /**
+     * Returns the row of a cell.
+     *
+     * @param cell - The cell
+     * @return the row of the cell
+     */
+    public int getRow(int cell) {
+        return cell % rows;
+    }
+
+    /**
+     * Returns the column of a cell.
+     *
+     * @param cell - The cell
+     * @return the column of the cell
+     */
+    public int getCol(int cell) {
+        return cell / rows;
+    }
+
+    /**
+     * Returns the number of rows in the board.
+     *
+     * @return the number of rows in the board.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns in the board.
+     *
+     * @return the number of columns in the board.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the number of cells in the board.
+     *
+     * @return the number of cells in the board.
+     */
+    public int getCells() {
+        return rows * cols;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Java Minesweeper - TorusTopology
+ *
+ * A square grid whose edges wrap around, so every tile has 8 neighbors on boards of at least 3 by 3.
+ *
+ * @author Yohan Berg
+ * @version October 19, 2026
+ */
+public class TorusTopology extends Topology {
+
+    /**
+     * Creates a wrapping grid of the given size.
+     *
+     * @param rows - The number of rows in the board.
+     * @param cols - The number of columns in the board.
+     * @throws IllegalArgumentException When the board has less than one row or column.
+     */
+    public TorusTopology(int rows, int cols) throws IllegalArgumentException {
+        super(rows, cols);
+        build();
+    }
+
+    @Override
+    protected int classify(int row, int col) {
+        // Cells on the edges wrap to the other side, so their offsets differ from the interior.
+        return (row == 0 ? 1 : 0) | (row == rows - 1 ? 2 : 0) | (col == 0 ? 4 : 0) | (col == cols - 1 ? 8 : 0);
+    }
+
+    @Override
+    protected int neighbors(int row, int col, int[] out) {
+        int count = 0;
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                if (i == 0 && j == 0) continue;
+                int c = (col + i + cols) % cols;
+                int r = (row + j + rows) % rows;
+                out[count++] = c * rows + r;
+            }
+        }
+        return count;
+    }
+}